@@ -25,6 +25,24 @@ java {
 
 sourceSets.main.get().java.srcDir(file("src/main/java"))
 
+// Converts the registry json files from minestom-data into their compact binary form
+val generateRegistryBinary by tasks.registering(JavaExec::class) {
+    val outputDir = layout.buildDirectory.dir("generated/resources/registry")
+    classpath = sourceSets.main.get().output.classesDirs + configurations.runtimeClasspath.get()
+    mainClass = "net.minestom.server.registry.RegistryBinary"
+    argumentProviders.add(CommandLineArgumentProvider { listOf(outputDir.get().asFile.absolutePath) })
+    outputs.dir(outputDir)
+}
+sourceSets.main.get().resources.srcDir(generateRegistryBinary)
+
+// JMH benchmarks in src/jmh/java, run with `./gradlew jmh`
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     // Core dependencies
     api(libs.bundles.logging)
@@ -46,6 +64,10 @@ dependencies {
     api(libs.junit.suite.api)
     runtimeOnly(libs.junit.engine)
     runtimeOnly(libs.junit.suite.engine)
+
+    // Benchmarks
+    jmh.implementationConfigurationName(libs.jmh.core)
+    jmh.annotationProcessorConfigurationName(libs.jmh.annprocess)
 }
 
 tasks {
@@ -81,6 +103,16 @@ tasks {
     withType<Zip> {
         duplicatesStrategy = DuplicatesStrategy.EXCLUDE
     }
+    register<JavaExec>("jmh") {
+        description = "Runs the JMH benchmarks, JMH options can be given with --args"
+        group = "verification"
+        classpath = jmh.runtimeClasspath
+        mainClass = "org.openjdk.jmh.Main"
+    }
+    // Keep the benchmarks compiling along with the API they use
+    named("check") {
+        dependsOn(jmh.classesTaskName)
+    }
 }
 
 publishing.publications.create<MavenPublication>("maven") {
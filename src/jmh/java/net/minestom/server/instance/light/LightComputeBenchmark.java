@@ -0,0 +1,67 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the breadth-first light propagation with {@link BitwiseLightCompute}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightComputeBenchmark {
+    private static final List<Block> BLOCKS = List.of(Block.STONE, Block.GLASS, Block.OAK_SLAB, Block.GLOWSTONE);
+
+    /**
+     * Proportion of the section filled with blocks.
+     */
+    @Param({"0.0", "0.2", "0.6"})
+    public double density;
+
+    private Palette palette;
+    private ShortArrayFIFOQueue sources;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.palette = Palette.blocks();
+        this.palette.setAll((x, y, z) -> random.nextDouble() < density ?
+                BLOCKS.get(random.nextInt(BLOCKS.size())).stateId() : 0);
+        // Light coming from the top of the section, like skylight
+        this.sources = new ShortArrayFIFOQueue();
+        for (int i = 0; i < 256; i++) sources.enqueue((short) (i | 15 << 8 | 15 << 12));
+        this.palette.set(8, 8, 8, Block.GLOWSTONE.stateId());
+        final ShortArrayFIFOQueue internal = BlockLight.buildInternalQueue(palette);
+        while (!internal.isEmpty()) sources.enqueue(internal.dequeueShort());
+    }
+
+    @Benchmark
+    public byte[] breadthFirst() {
+        return LightCompute.computeBreadthFirst(palette, queue());
+    }
+
+    @Benchmark
+    public byte[] bitwise() {
+        return BitwiseLightCompute.compute(palette, queue());
+    }
+
+    private ShortArrayFIFOQueue queue() {
+        final ShortArrayFIFOQueue sources = this.sources;
+        final ShortArrayFIFOQueue queue = new ShortArrayFIFOQueue(sources.size());
+        for (int i = 0; i < sources.size(); i++) {
+            final short entry = sources.dequeueShort();
+            queue.enqueue(entry);
+            sources.enqueue(entry);
+        }
+        return queue;
+    }
+}
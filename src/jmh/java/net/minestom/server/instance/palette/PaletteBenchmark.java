@@ -0,0 +1,141 @@
+package net.minestom.server.instance.palette;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entry based palette operations with their bulk counterpart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaletteBenchmark {
+    private static final int DIMENSION = 16;
+
+    /**
+     * Number of distinct values in the palette, 300 exceeds the palette size and stores values directly.
+     */
+    @Param({"4", "40", "300"})
+    public int distinctValues;
+
+    private Palette palette;
+    private int[] values;
+    private short[] shortValues;
+    // Alternated so that every call replaces values, the first map makes all values odd, the second even
+    private Int2IntMap replacements;
+    private Int2IntMap inverseReplacements;
+    private boolean inverse;
+    private int regionValue;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        this.values = new int[DIMENSION * DIMENSION * DIMENSION];
+        this.shortValues = new short[values.length];
+        for (int i = 0; i < values.length; i++) {
+            this.values[i] = random.nextInt(distinctValues);
+            this.shortValues[i] = (short) values[i];
+        }
+        this.replacements = new Int2IntOpenHashMap();
+        this.inverseReplacements = new Int2IntOpenHashMap();
+        for (int i = 0; i < distinctValues; i += 2) replacements.put(i, i + 1);
+        for (int i = 1; i <= distinctValues; i += 2) inverseReplacements.put(i, i - 1);
+        this.inverse = false;
+        this.regionValue = 1;
+        this.palette = Palette.blocks();
+        this.palette.copyFrom(values);
+    }
+
+    @Benchmark
+    public void setAll() {
+        final int[] values = this.values;
+        palette.setAll((x, y, z) -> values[x + z * DIMENSION + y * DIMENSION * DIMENSION]);
+    }
+
+    @Benchmark
+    public void copyFrom() {
+        palette.copyFrom(values);
+    }
+
+    @Benchmark
+    public void copyFromShort() {
+        palette.copyFrom(shortValues);
+    }
+
+    @Benchmark
+    public void getAll(Blackhole blackhole) {
+        final int[] result = new int[values.length];
+        palette.getAll((x, y, z, value) -> result[x + z * DIMENSION + y * DIMENSION * DIMENSION] = value);
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void copyTo(Blackhole blackhole) {
+        final int[] result = new int[values.length];
+        palette.copyTo(result);
+        blackhole.consume(result);
+    }
+
+    @Benchmark
+    public void replaceAll() {
+        final Int2IntMap replacements = nextReplacements();
+        palette.replaceAll((x, y, z, value) -> replacements.getOrDefault(value, value));
+    }
+
+    @Benchmark
+    public void replaceValues() {
+        palette.replaceValues(nextReplacements());
+    }
+
+    @Benchmark
+    public void setRegion() {
+        final int value = nextRegionValue();
+        for (int y = 4; y < 12; y++) {
+            for (int z = 0; z < DIMENSION; z++) {
+                for (int x = 0; x < DIMENSION; x++) {
+                    palette.set(x, y, z, value);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void fillRegion() {
+        palette.fill(0, 4, 0, DIMENSION, 12, DIMENSION, nextRegionValue());
+    }
+
+    @Benchmark
+    public int countLoop() {
+        int[] count = new int[1];
+        palette.getAll((x, y, z, value) -> {
+            if (value == 1) count[0]++;
+        });
+        return count[0];
+    }
+
+    @Benchmark
+    public int count() {
+        return palette.count(1);
+    }
+
+    private Int2IntMap nextReplacements() {
+        final Int2IntMap result = inverse ? inverseReplacements : replacements;
+        this.inverse = !inverse;
+        return result;
+    }
+
+    private int nextRegionValue() {
+        // Alternated so that the region always changes
+        final int value = regionValue;
+        this.regionValue = 3 - value;
+        return value;
+    }
+}
@@ -20,6 +20,10 @@ public final class ServerFlag {
     public static final int SERVER_MAX_TICK_CATCH_UP = intProperty("minestom.max-tick-catch-up", 5);
     public static final int CHUNK_VIEW_DISTANCE = intProperty("minestom.chunk-view-distance", 8);
     public static final int ENTITY_VIEW_DISTANCE = intProperty("minestom.entity-view-distance", 5);
+    public static final boolean ENTITY_VIEW_RULE_CACHE = booleanProperty("minestom.entity-view.rule-cache", false);
+    public static final int ENTITY_TRACKER_CELL_SIZE = intProperty("minestom.entity-tracker.cell-size", 0);
+    public static final boolean ENTITY_MOVEMENT_COALESCING = booleanProperty("minestom.entity.movement-coalescing", false);
+    public static final boolean METADATA_TICK_BATCHING = booleanProperty("minestom.metadata.tick-batching", false);
     public static final int ENTITY_SYNCHRONIZATION_TICKS = intProperty("minestom.entity-synchronization-ticks", 20);
     public static final int WORKER_COUNT = intProperty("minestom.workers", Runtime.getRuntime().availableProcessors());
     public static final int DISPATCHER_THREADS = intProperty("minestom.dispatcher-threads", 1);
@@ -34,8 +38,13 @@ public final class ServerFlag {
     // Network rate limiting
     public static final int PLAYER_PACKET_PER_TICK = intProperty("minestom.packet-per-tick", 50);
     public static final int PLAYER_PACKET_QUEUE_SIZE = intProperty("minestom.packet-queue-size", 1000);
+    public static final boolean PLAYER_MOVEMENT_MERGE = booleanProperty("minestom.player.movement-merge", false);
     public static final long KEEP_ALIVE_DELAY = longProperty("minestom.keep-alive-delay", 10_000);
     public static final long KEEP_ALIVE_KICK = longProperty("minestom.keep-alive-kick", 15_000);
+    public static final long SEND_QUEUE_HIGH_WATERMARK = longProperty("minestom.send-queue.high-watermark", 0); // Disabled if 0
+    public static final long SEND_QUEUE_LOW_WATERMARK = longProperty("minestom.send-queue.low-watermark", 0); // Half of high if 0
+    public static final long SEND_QUEUE_LIMIT = longProperty("minestom.send-queue.limit", 0); // 4 times high if 0
+    public static final String SEND_QUEUE_POLICY = stringProperty("minestom.send-queue.policy", "disconnect");
 
     // Chunk update
     public static final float MIN_CHUNKS_PER_TICK = floatProperty("minestom.chunk-queue.min-per-tick", 0.01f);
@@ -46,14 +55,34 @@ public final class ServerFlag {
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final int VIEWABLE_FLUSH_THREADS = intProperty("minestom.viewable-flush-threads", Runtime.getRuntime().availableProcessors());
+    public static final boolean DIRECT_PACKET_DECODING = booleanProperty("minestom.direct-packet-decoding", true);
     public static final int COMPRESSION_THRESHOLD = intProperty("minestom.compression-threshold", 256);
 
+    // Registry
+    public static final boolean REGISTRY_BINARY = booleanProperty("minestom.registry.binary", true);
+
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
     public static final boolean SERIALIZE_EMPTY_COMPOUND = booleanProperty("minestom.serialization.serialize-empty-nbt-compound", false);
 
+    // Scoreboard
+    public static final boolean SIDEBAR_BATCHING = booleanProperty("minestom.sidebar.batching", false);
+
+    // Inventory
+    public static final boolean INVENTORY_DELTA_SYNC = booleanProperty("minestom.inventory.delta-sync", false);
+    public static final int INVENTORY_DELTA_THRESHOLD = intProperty("minestom.inventory.delta-threshold", 0);
+
+    // Items
+    public static final boolean ITEM_INTERNING = booleanProperty("minestom.item.interning", false);
+    public static final long ITEM_NETWORK_CACHE_SIZE = longProperty("minestom.item.network-cache-size", 8_388_608); // In bytes, only used with interning, disabled if 0
+
     // World
     public static final int WORLD_BORDER_SIZE = intProperty("minestom.world-border-size", 29999984);
+    public static final boolean LIGHTING_BITWISE = booleanProperty("minestom.lighting.bitwise", false);
+    public static final boolean LIGHTING_SCHEDULER = booleanProperty("minestom.lighting.scheduler", false);
+    public static final int LIGHTING_THREADS = intProperty("minestom.lighting.threads", Runtime.getRuntime().availableProcessors());
+    public static final int LIGHTING_CHUNKS_PER_TICK = intProperty("minestom.lighting.chunks-per-tick", 64);
 
     // Maps
     public static final @NotNull String MAP_RGB_MAPPING = stringProperty("minestom.map.rgbmapping", "lazy");
@@ -1,6 +1,8 @@
 package net.minestom.server.component;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.utils.Unit;
 import net.minestom.server.utils.nbt.BinaryTagSerializer;
@@ -64,25 +66,35 @@ public sealed interface DataComponentMap extends DataComponent.Holder permits Da
 
         final DataComponentMapImpl protoImpl = (DataComponentMapImpl) prototype;
 
+        // Patches are immutable, reuse the given one (and its interned identity) if it is already minimal
+        boolean minimal = true;
+        for (var entry : Int2ObjectMaps.fastIterable(patchImpl.components())) {
+            if (isRedundant(protoImpl, entry)) {
+                minimal = false;
+                break;
+            }
+        }
+        if (minimal) return patch;
+
         final Int2ObjectArrayMap<Object> diff = new Int2ObjectArrayMap<>(patchImpl.components());
         var iter = diff.int2ObjectEntrySet().fastIterator();
         while (iter.hasNext()) {
-            final var entry = iter.next(); // Entry in patch
-            final var protoComp = protoImpl.components().get(entry.getIntKey()); // Entry in prototype
-            if (entry.getValue() == null) {
-                // If the component is removed, remove it from the diff if it is not in the prototype
-                if (protoImpl.components().containsKey(entry.getIntKey())) {
-                    iter.remove();
-                }
-            } else if (protoComp != null && protoComp.equals(entry.getValue())) {
-                // If the component is the same as in the prototype, remove it from the diff
-                iter.remove();
-            }
+            if (isRedundant(protoImpl, iter.next())) iter.remove();
         }
 
         return new DataComponentMapImpl(diff);
     }
 
+    private static boolean isRedundant(DataComponentMapImpl protoImpl, Int2ObjectMap.Entry<Object> entry) {
+        final var protoComp = protoImpl.components().get(entry.getIntKey()); // Entry in prototype
+        if (entry.getValue() == null) {
+            // If the component is removed, remove it from the diff if it is not in the prototype
+            return protoImpl.components().containsKey(entry.getIntKey());
+        }
+        // If the component is the same as in the prototype, remove it from the diff
+        return protoComp != null && protoComp.equals(entry.getValue());
+    }
+
     /**
      * Does a 'patch'ed has against the given prototype. That is, this map is treated as the primary source, but if
      * unspecified, the given prototype is used as a fallback.
@@ -127,6 +139,22 @@ public sealed interface DataComponentMap extends DataComponent.Holder permits Da
 
     @NotNull PatchBuilder toPatchBuilder();
 
+    /**
+     * Gets if this map has no entry, neither added nor removed components.
+     *
+     * @return true if the map is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Gets the canonical instance equal to this map.
+     * <p>
+     * Interned maps are shared, and can be compared by reference with other interned maps.
+     *
+     * @return the interned map
+     */
+    @NotNull DataComponentMap intern();
+
     sealed interface Builder extends DataComponent.Holder permits DataComponentMapImpl.BuilderImpl {
 
         <T> @NotNull Builder set(@NotNull DataComponent<T> component, @NotNull T value);
@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.kyori.adventure.nbt.BinaryTag;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.utils.collection.WeakInterner;
 import net.minestom.server.utils.nbt.BinaryTagSerializer;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
@@ -23,6 +24,7 @@ import java.util.function.IntFunction;
  */
 record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implements DataComponentMap {
     private static final char REMOVAL_PREFIX = '!';
+    private static final WeakInterner<DataComponentMap> INTERNER = new WeakInterner<>();
 
     @Override
     public boolean has(@NotNull DataComponent<?> component) {
@@ -78,6 +80,17 @@ record DataComponentMapImpl(@NotNull Int2ObjectMap<Object> components) implement
         return new PatchBuilderImpl(new Int2ObjectArrayMap<>(components));
     }
 
+    @Override
+    public boolean isEmpty() {
+        return components.isEmpty();
+    }
+
+    @Override
+    public @NotNull DataComponentMap intern() {
+        if (components.isEmpty()) return EMPTY;
+        return INTERNER.intern(this);
+    }
+
     record BuilderImpl(@NotNull Int2ObjectMap<Object> components) implements DataComponentMap.Builder {
 
         @Override
@@ -76,6 +76,9 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
             EntityType.EYE_OF_ENDER, EntityType.DRAGON_FIREBALL, EntityType.FIREBALL, EntityType.SMALL_FIREBALL,
             EntityType.TNT);
 
+    // Merge movement packets within a tick
+    private static final boolean MOVEMENT_COALESCING = ServerFlag.ENTITY_MOVEMENT_COALESCING;
+
     private final CachedPacket destroyPacketCache = new CachedPacket(() -> new DestroyEntitiesPacket(getEntityId()));
 
     protected Instance instance;
@@ -144,6 +147,9 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
     // Network synchronization, send the absolute position of the entity every n ticks
     private long synchronizationTicks = ServerFlag.ENTITY_SYNCHRONIZATION_TICKS;
     private long nextSynchronizationTick = synchronizationTicks;
+    // Movement updates merged and sent once at the end of the tick
+    private boolean movementCoalescing = MOVEMENT_COALESCING;
+    private boolean pendingMovement, pendingView, pendingVelocity;
 
     protected MetadataHolder metadata = new MetadataHolder(this);
     protected EntityMeta entityMeta;
@@ -523,11 +529,41 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
 
             // remove expired effects
             effectTick();
+
+            // send the metadata changes batched during the tick
+            metadata.sendChanges();
         }
         // Scheduled synchronization
         if (vehicle == null && ticks >= nextSynchronizationTick) {
             synchronizePosition();
-            sendPacketToViewers(getVelocityPacket());
+            if (pendingVelocity) sendPacketToViewersAndSelf(getVelocityPacket());
+            else sendPacketToViewers(getVelocityPacket());
+            this.pendingMovement = this.pendingView = this.pendingVelocity = false;
+        } else if (movementCoalescing) {
+            flushPendingMovement();
+        }
+    }
+
+    /**
+     * Sends the movement updates coalesced during the tick.
+     * <p>
+     * Superseded position, view and velocity changes are dropped,
+     * only the difference with the last synchronized state is sent.
+     */
+    private void flushPendingMovement() {
+        if (pendingMovement) {
+            this.pendingMovement = false;
+            this.pendingView = false; // Part of the position update
+            final Pos position = this.position;
+            if (!position.equals(lastSyncedPosition)) sendPositionUpdate(position);
+        }
+        if (pendingView) {
+            this.pendingView = false;
+            sendViewUpdate();
+        }
+        if (pendingVelocity) {
+            this.pendingVelocity = false;
+            sendPacketToViewersAndSelf(getVelocityPacket());
         }
     }
 
@@ -801,7 +837,8 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
         EntityVelocityEvent entityVelocityEvent = new EntityVelocityEvent(this, velocity);
         EventDispatcher.callCancellable(entityVelocityEvent, () -> {
             this.velocity = entityVelocityEvent.getVelocity();
-            sendPacketToViewersAndSelf(getVelocityPacket());
+            if (movementCoalescing) this.pendingVelocity = true;
+            else sendPacketToViewersAndSelf(getVelocityPacket());
         });
     }
 
@@ -1185,7 +1222,8 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
     public void refreshPosition(@NotNull final Pos newPosition, boolean ignoreView, boolean sendPackets) {
         final var previousPosition = this.position;
         final Pos position = ignoreView ? previousPosition.withCoord(newPosition) : newPosition;
-        if (position.equals(lastSyncedPosition)) return;
+        // Pending coalesced moves are compared with the last synchronized position when flushed
+        if (position.equals(previousPosition)) return;
         this.position = position;
         this.previousPosition = previousPosition;
         if (!position.samePoint(previousPosition)) refreshCoordinate(position);
@@ -1194,6 +1232,21 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
             // not returning here will duplicate position packets
             return;
         }
+        if (movementCoalescing) {
+            this.pendingMovement = true;
+            return;
+        }
+        sendPositionUpdate(position);
+    }
+
+    /**
+     * Overrides {@link ServerFlag#ENTITY_MOVEMENT_COALESCING} for this entity, pending updates are sent at the end of the tick.
+     */
+    void setMovementCoalescing(boolean movementCoalescing) {
+        this.movementCoalescing = movementCoalescing;
+    }
+
+    private void sendPositionUpdate(@NotNull Pos position) {
         // Update viewers
         final boolean viewChange = !position.sameView(lastSyncedPosition);
         final double distanceX = Math.abs(position.x() - lastSyncedPosition.x());
@@ -1475,6 +1528,14 @@ public class Entity implements Viewable, Tickable, EventHandler<EntityEvent>, Ta
     }
 
     private void synchronizeView() {
+        if (movementCoalescing) {
+            this.pendingView = true;
+            return;
+        }
+        sendViewUpdate();
+    }
+
+    private void sendViewUpdate() {
         sendPacketToViewers(new EntityHeadLookPacket(getEntityId(), position.yaw()));
         sendPacketToViewers(new EntityRotationPacket(getEntityId(), position.yaw(), position.pitch(), onGround));
     }
@@ -1,5 +1,6 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.ints.Int2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntIterator;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
@@ -18,7 +19,10 @@ import java.util.function.Predicate;
 
 final class EntityView {
     private static final int RANGE = ServerFlag.ENTITY_VIEW_DISTANCE;
+    private static final boolean CACHE_RULES = ServerFlag.ENTITY_VIEW_RULE_CACHE;
+    static final int RULE_CACHE_LIMIT = 4096;
     private final Entity entity;
+    private final boolean cacheRules;
     private final Set<Player> manualViewers = new HashSet<>();
 
     // Decide if this entity should be viewable to X players
@@ -32,7 +36,12 @@ final class EntityView {
     private volatile TrackedLocation trackedLocation;
 
     public EntityView(Entity entity) {
+        this(entity, CACHE_RULES);
+    }
+
+    EntityView(Entity entity, boolean cacheRules) {
         this.entity = entity;
+        this.cacheRules = cacheRules;
         this.viewableOption = new Option<>(EntityTracker.Target.PLAYERS, Entity::autoViewEntities,
                 player -> {
                     // Add viewable
@@ -143,6 +152,9 @@ final class EntityView {
         // The custom rule used to determine if an entity is viewable.
         // null if auto-viewable
         private Predicate<T> predicate = null;
+        // Results of the custom rule per entity id, only re-evaluated once the rule is updated
+        // Guarded by the view mutex
+        private final Int2BooleanOpenHashMap ruleCache = cacheRules ? new Int2BooleanOpenHashMap() : null;
 
         public Option(EntityTracker.Target<T> target, Predicate<T> loopPredicate,
                       Consumer<T> addition, Consumer<T> removal) {
@@ -158,7 +170,22 @@ final class EntityView {
 
         public boolean predicate(T entity) {
             final Predicate<T> predicate = this.predicate;
-            return predicate == null || predicate.test(entity);
+            if (predicate == null) return true;
+            final Int2BooleanOpenHashMap ruleCache = this.ruleCache;
+            if (ruleCache == null) return predicate.test(entity);
+            final int id = entity.getEntityId();
+            if (ruleCache.containsKey(id)) return ruleCache.get(id);
+            return testRule(predicate, entity);
+        }
+
+        private boolean testRule(Predicate<T> predicate, T entity) {
+            final boolean result = predicate.test(entity);
+            final Int2BooleanOpenHashMap ruleCache = this.ruleCache;
+            if (ruleCache != null) {
+                if (ruleCache.size() >= RULE_CACHE_LIMIT) ruleCache.clear();
+                ruleCache.put(entity.getEntityId(), result);
+            }
+            return result;
         }
 
         public boolean isRegistered(T entity) {
@@ -198,13 +225,14 @@ final class EntityView {
         }
 
         void updateRule0(Predicate<T> predicate) {
+            if (ruleCache != null) ruleCache.clear();
             if (predicate == null) {
                 update(loopPredicate, entity -> {
                     if (!isRegistered(entity)) addition.accept(entity);
                 });
             } else {
                 update(loopPredicate, entity -> {
-                    final boolean result = predicate.test(entity);
+                    final boolean result = testRule(predicate, entity);
                     if (result != isRegistered(entity)) {
                         if (result) addition.accept(entity);
                         else removal.accept(entity);
@@ -1,5 +1,6 @@
 package net.minestom.server.entity;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.metadata.EntityMeta;
 import net.minestom.server.entity.metadata.PlayerMeta;
 import net.minestom.server.entity.metadata.ambient.BatMeta;
@@ -33,23 +34,27 @@ import net.minestom.server.entity.metadata.water.DolphinMeta;
 import net.minestom.server.entity.metadata.water.GlowSquidMeta;
 import net.minestom.server.entity.metadata.water.SquidMeta;
 import net.minestom.server.entity.metadata.water.fish.*;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.BiFunction;
 
 public final class MetadataHolder {
+    private static final boolean TICK_BATCHING = ServerFlag.METADATA_TICK_BATCHING;
     private static final VarHandle NOTIFIED_CHANGES;
+    private static final VarHandle DIRTY;
 
     static {
         try {
             NOTIFIED_CHANGES = MethodHandles.lookup().findVarHandle(MetadataHolder.class, "notifyAboutChanges", boolean.class);
+            DIRTY = MethodHandles.lookup().findVarHandle(MetadataHolder.class, "dirty", long.class);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new IllegalStateException(e);
         }
@@ -57,11 +62,13 @@ public final class MetadataHolder {
 
     private final Entity entity;
     private volatile Metadata.Entry<?>[] entries = new Metadata.Entry<?>[0];
-    private volatile Map<Integer, Metadata.Entry<?>> entryMap = null;
+    private volatile Entries entryMap = null;
 
     @SuppressWarnings("FieldMayBeFinal")
     private volatile boolean notifyAboutChanges = true;
-    private final Map<Integer, Metadata.Entry<?>> notNotifiedChanges = new HashMap<>();
+    // Bit set of the indexes changed but not yet sent
+    @SuppressWarnings("unused")
+    private volatile long dirty;
 
     public MetadataHolder(@Nullable Entity entity) {
         this.entity = entity;
@@ -76,6 +83,7 @@ public final class MetadataHolder {
     }
 
     public void setIndex(int index, @NotNull Metadata.Entry<?> entry) {
+        Check.argCondition(index < 0 || index >= Long.SIZE, "Invalid metadata index: {0}", index);
         Metadata.Entry<?>[] entries = this.entries;
         // Resize array if necessary
         if (index >= entries.length) {
@@ -87,12 +95,10 @@ public final class MetadataHolder {
         // Send metadata packet to update viewers and self
         final Entity entity = this.entity;
         if (entity != null && entity.isActive()) {
-            if (!this.notifyAboutChanges) {
-                synchronized (this.notNotifiedChanges) {
-                    this.notNotifiedChanges.put(index, entry);
-                }
+            if (TICK_BATCHING || !this.notifyAboutChanges) {
+                DIRTY.getAndBitwiseOr(this, 1L << index);
             } else {
-                entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), Map.of(index, entry)));
+                entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), new Entries(entries, 1L << index)));
             }
         }
     }
@@ -104,30 +110,117 @@ public final class MetadataHolder {
             // Ask future metadata changes to be cached
             return;
         }
+        sendChanges();
+    }
+
+    /**
+     * Sends the batched changes in a single packet.
+     * <p>
+     * Called every tick when {@link ServerFlag#METADATA_TICK_BATCHING} is enabled.
+     */
+    @ApiStatus.Internal
+    public void sendChanges() {
+        if (!this.notifyAboutChanges) return;
         final Entity entity = this.entity;
         if (entity == null || !entity.isActive()) return;
-        Map<Integer, Metadata.Entry<?>> entries;
-        synchronized (this.notNotifiedChanges) {
-            Map<Integer, Metadata.Entry<?>> awaitingChanges = this.notNotifiedChanges;
-            if (awaitingChanges.isEmpty()) return;
-            entries = Map.copyOf(awaitingChanges);
-            awaitingChanges.clear();
-        }
-        entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), entries));
+        final long dirty = (long) DIRTY.getAndSet(this, 0L);
+        if (dirty == 0) return;
+        entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), new Entries(this.entries, dirty)));
     }
 
     public @NotNull Map<Integer, Metadata.Entry<?>> getEntries() {
-        Map<Integer, Metadata.Entry<?>> map = entryMap;
-        if (map == null) {
-            map = new HashMap<>();
+        Entries map = entryMap;
+        if (map == null) this.entryMap = map = new Entries(this.entries, -1L);
+        return map;
+    }
+
+    /**
+     * Immutable snapshot of metadata entries, stored in an array indexed by metadata index.
+     */
+    @ApiStatus.Internal
+    public static final class Entries extends AbstractMap<Integer, Metadata.Entry<?>> {
+        private final Metadata.Entry<?>[] entries;
+        private final int size;
+
+        Entries(Metadata.Entry<?>[] source, long mask) {
+            final int length = Math.min(source.length, Long.SIZE - Long.numberOfLeadingZeros(mask));
+            Metadata.Entry<?>[] entries = new Metadata.Entry<?>[length];
+            int size = 0;
+            for (int i = 0; i < length; i++) {
+                if ((mask & (1L << i)) == 0) continue;
+                final Metadata.Entry<?> entry = source[i];
+                if (entry == null) continue;
+                entries[i] = entry;
+                size++;
+            }
+            this.entries = entries;
+            this.size = size;
+        }
+
+        /**
+         * Writes the entries in the {@link EntityMetaDataPacket} format, without the end marker.
+         */
+        public void write(@NotNull NetworkBuffer writer) {
             final Metadata.Entry<?>[] entries = this.entries;
             for (int i = 0; i < entries.length; i++) {
                 final Metadata.Entry<?> entry = entries[i];
-                if (entry != null) map.put(i, entry);
+                if (entry == null) continue;
+                writer.write(NetworkBuffer.BYTE, (byte) i);
+                writer.write(entry);
             }
-            this.entryMap = Map.copyOf(map);
         }
-        return map;
+
+        @Override
+        public Metadata.Entry<?> get(Object key) {
+            if (!(key instanceof Integer index) || index < 0 || index >= entries.length) return null;
+            return entries[index];
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public @NotNull Set<Map.Entry<Integer, Metadata.Entry<?>>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public @NotNull Iterator<Map.Entry<Integer, Metadata.Entry<?>>> iterator() {
+                    return new Iterator<>() {
+                        private int index = nextIndex(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < entries.length;
+                        }
+
+                        @Override
+                        public Map.Entry<Integer, Metadata.Entry<?>> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            final int current = index;
+                            this.index = nextIndex(current + 1);
+                            return Map.entry(current, entries[current]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+
+        private int nextIndex(int from) {
+            final Metadata.Entry<?>[] entries = this.entries;
+            while (from < entries.length && entries[from] == null) from++;
+            return from;
+        }
     }
 
     static final Map<String, BiFunction<Entity, MetadataHolder, EntityMeta>> ENTITY_META_SUPPLIER = createMetaMap();
@@ -63,6 +63,10 @@ import net.minestom.server.network.ConnectionManager;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.PlayerProvider;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.play.ClientMovementPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionAndRotationPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerRotationPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.common.*;
@@ -116,10 +120,12 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private static final DynamicRegistry<DimensionType> DIMENSION_TYPE_REGISTRY = MinecraftServer.getDimensionTypeRegistry();
 
     private static final Component REMOVE_MESSAGE = Component.text("You have been kicked from the server.", NamedTextColor.RED);
+    private static final boolean MOVEMENT_MERGE = ServerFlag.PLAYER_MOVEMENT_MERGE;
     private static final Component MISSING_REQUIRED_RESOURCE_PACK = Component.text("Required resource pack was not loaded.", NamedTextColor.RED);
 
     private long lastKeepAlive;
     private boolean answerKeepAlive;
+    private boolean movementMerge = MOVEMENT_MERGE;
 
     private String username;
     private Component usernameComponent;
@@ -763,6 +769,8 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
     private void sendPendingChunks() {
         // If we have nothing to send or have sent the max # of batches without reply, do nothing
         if (chunkQueue.isEmpty() || chunkBatchLead >= maxChunkBatchLead) return;
+        // Let a slow client catch up before sending more
+        if (playerConnection instanceof PlayerSocketConnection socketConnection && socketConnection.isChunkStreamingPaused()) return;
 
         // Increment the pending chunk count by the target chunks per tick
         pendingChunkCount = Math.min(pendingChunkCount + targetChunksPerTick, ServerFlag.MAX_CHUNKS_PER_TICK);
@@ -2060,7 +2068,67 @@ public class Player extends LivingEntity implements CommandSender, Localizable,
             return;
         }
         // This method is NOT thread-safe
-        this.packets.drain(packet -> packet.handle(playerConnection), ServerFlag.PLAYER_PACKET_PER_TICK);
+        if (!movementMerge) {
+            this.packets.drain(packet -> packet.handle(playerConnection), ServerFlag.PLAYER_PACKET_PER_TICK);
+            return;
+        }
+        // Consecutive movement packets are merged into a single move
+        Pos pendingPosition = null;
+        boolean pendingOnGround = false;
+        for (int i = 0; i < ServerFlag.PLAYER_PACKET_PER_TICK; i++) {
+            final ClientPacket packet = this.packets.relaxedPoll();
+            if (packet == null) break;
+            if (!isMovementPacket(packet)) {
+                if (pendingPosition != null) {
+                    processMovement(pendingPosition, pendingOnGround);
+                    pendingPosition = null;
+                }
+                packet.handle(playerConnection);
+                continue;
+            }
+            final boolean onGround = movementOnGround(packet);
+            if (pendingPosition != null && onGround != pendingOnGround) {
+                // Keep on-ground transitions
+                processMovement(pendingPosition, pendingOnGround);
+                pendingPosition = null;
+            }
+            pendingPosition = applyMovement(packet, pendingPosition != null ? pendingPosition : position);
+            pendingOnGround = onGround;
+            if (packet instanceof ClientMovementPacket movementPacket) movementPacket.recycle();
+        }
+        if (pendingPosition != null) processMovement(pendingPosition, pendingOnGround);
+    }
+
+    /**
+     * Overrides {@link ServerFlag#PLAYER_MOVEMENT_MERGE} for this player.
+     */
+    void setMovementMerge(boolean movementMerge) {
+        this.movementMerge = movementMerge;
+    }
+
+    private static boolean isMovementPacket(ClientPacket packet) {
+        return packet instanceof ClientMovementPacket || packet instanceof ClientPlayerPositionPacket ||
+                packet instanceof ClientPlayerPositionAndRotationPacket || packet instanceof ClientPlayerRotationPacket;
+    }
+
+    private static boolean movementOnGround(ClientPacket packet) {
+        return switch (packet) {
+            case ClientMovementPacket movementPacket -> movementPacket.onGround();
+            case ClientPlayerPositionPacket positionPacket -> positionPacket.onGround();
+            case ClientPlayerPositionAndRotationPacket positionAndRotationPacket -> positionAndRotationPacket.onGround();
+            case ClientPlayerRotationPacket rotationPacket -> rotationPacket.onGround();
+            default -> throw new IllegalArgumentException("Not a movement packet: " + packet);
+        };
+    }
+
+    private static Pos applyMovement(ClientPacket packet, Pos position) {
+        return switch (packet) {
+            case ClientMovementPacket movementPacket -> movementPacket.apply(position);
+            case ClientPlayerPositionPacket positionPacket -> position.withCoord(positionPacket.position());
+            case ClientPlayerPositionAndRotationPacket positionAndRotationPacket -> positionAndRotationPacket.position();
+            case ClientPlayerRotationPacket rotationPacket -> position.withView(rotationPacket.yaw(), rotationPacket.pitch());
+            default -> throw new IllegalArgumentException("Not a movement packet: " + packet);
+        };
     }
 
     /**
@@ -95,6 +95,25 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
                                      @Nullable BlockHandler.Placement placement,
                                      @Nullable BlockHandler.Destroy destroy);
 
+    /**
+     * Sets multiple blocks at once, implementations may refresh heightmaps and lighting
+     * once for all the changes instead of once per block.
+     * <p>
+     * Same thread-safety requirements as {@link #setBlock(int, int, int, Block)}.
+     *
+     * @param indexes the block positions computed with {@link ChunkUtils#getBlockIndex(int, int, int)}
+     * @param blocks  the block to place at each position
+     * @param count   the number of blocks to place
+     */
+    @ApiStatus.Internal
+    public void setBlocks(int @NotNull [] indexes, @NotNull Block @NotNull [] blocks, int count) {
+        for (int i = 0; i < count; i++) {
+            final int index = indexes[i];
+            setBlock(ChunkUtils.blockIndexToChunkPositionX(index), ChunkUtils.blockIndexToChunkPositionY(index),
+                    ChunkUtils.blockIndexToChunkPositionZ(index), blocks[i]);
+        }
+    }
+
     public abstract @NotNull List<Section> getSections();
 
     public abstract @NotNull Section getSection(int section);
@@ -125,6 +125,54 @@ public class DynamicChunk extends Chunk {
         worldSurface.refresh(sectionRelativeX, y, sectionRelativeZ, block);
     }
 
+    @Override
+    public void setBlocks(int @NotNull [] indexes, @NotNull Block @NotNull [] blocks, int count) {
+        assertLock();
+        final DimensionType instanceDim = instance.getCachedDimensionType();
+        // Highest modified block of each column, for the heightmaps
+        int[] columnTops = null;
+        for (int i = 0; i < count; i++) {
+            final int index = indexes[i];
+            final Block block = blocks[i];
+            final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+            final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+            final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+            if (y >= instanceDim.maxY() || y < instanceDim.minY() ||
+                    block.handler() != null || block.hasNbt() || block.registry().isBlockEntity() || entries.containsKey(index)) {
+                // Handlers and block entities need the complete path
+                setBlock(x, y, z, block, null, null);
+                continue;
+            }
+            getSectionAt(y).blockPalette().set(
+                    toSectionRelativeCoordinate(x),
+                    toSectionRelativeCoordinate(y),
+                    toSectionRelativeCoordinate(z),
+                    block.stateId()
+            );
+            if (columnTops == null) {
+                columnTops = new int[CHUNK_SIZE_X * CHUNK_SIZE_Z];
+                Arrays.fill(columnTops, Integer.MIN_VALUE);
+            }
+            final int column = toSectionRelativeCoordinate(z) << 4 | toSectionRelativeCoordinate(x);
+            columnTops[column] = Math.max(columnTops[column], y);
+        }
+        if (columnTops == null) return;
+        this.lastChange = System.currentTimeMillis();
+        this.chunkCache.invalidate();
+        // Update heightmaps once per modified column
+        if (needsCompleteHeightmapRefresh) {
+            calculateFullHeightmap();
+            return;
+        }
+        for (int column = 0; column < columnTops.length; column++) {
+            final int top = columnTops[column];
+            if (top == Integer.MIN_VALUE) continue;
+            final int x = column & 0xF, z = column >> 4;
+            motionBlocking.refresh(x, z, Math.max(top, motionBlocking.getHeight(x, z)));
+            worldSurface.refresh(x, z, Math.max(top, worldSurface.getHeight(x, z)));
+        }
+    }
+
     @Override
     public void setBiome(int x, int y, int z, @NotNull DynamicRegistry.Key<Biome> biome) {
         assertLock();
@@ -230,8 +278,11 @@ public class DynamicChunk extends Chunk {
     @Override
     public @NotNull Chunk copy(@NotNull Instance instance, int chunkX, int chunkZ) {
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ);
-        dynamicChunk.sections = sections.stream().map(Section::clone).toList();
-        dynamicChunk.entries.putAll(entries);
+        // Cloned palettes share their storage, block writes must see them as shared
+        synchronized (this) {
+            dynamicChunk.sections = sections.stream().map(Section::clone).toList();
+            dynamicChunk.entries.putAll(entries);
+        }
         return dynamicChunk;
     }
 
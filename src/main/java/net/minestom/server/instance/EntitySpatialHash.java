@@ -0,0 +1,228 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Spatial hash used by {@link EntityTrackerImpl} to answer small range queries.
+ * <p>
+ * Entities are bucketed in cubic cells linked through primitive arrays, positions are stored inline
+ * so queries never have to look up the tracker entries.
+ * Callbacks are invoked outside the lock, they are free to modify the tracker.
+ */
+final class EntitySpatialHash {
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final double inverseCellSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Entity id -> slot
+    private final Int2IntOpenHashMap slots = new Int2IntOpenHashMap();
+    // Packed cell coordinates -> first slot of the cell
+    private final Long2IntOpenHashMap cellHeads = new Long2IntOpenHashMap();
+    private final IntArrayList freeSlots = new IntArrayList();
+    private int slotCount;
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] zs = new double[INITIAL_CAPACITY];
+    private long[] cells = new long[INITIAL_CAPACITY];
+    private int[] targetMasks = new int[INITIAL_CAPACITY];
+    private int[] next = new int[INITIAL_CAPACITY];
+    private int[] previous = new int[INITIAL_CAPACITY];
+
+    EntitySpatialHash(int cellSize) {
+        if (cellSize <= 0) throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        this.inverseCellSize = 1.0 / cellSize;
+        this.slots.defaultReturnValue(NONE);
+        this.cellHeads.defaultReturnValue(NONE);
+    }
+
+    void add(@NotNull Entity entity, @NotNull Point point, int targetMask) {
+        lock.writeLock().lock();
+        try {
+            final int slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.popInt();
+            if (slot >= entities.length) grow(entities.length * 2);
+            slots.put(entity.getEntityId(), slot);
+            entities[slot] = entity;
+            targetMasks[slot] = targetMask;
+            xs[slot] = point.x();
+            ys[slot] = point.y();
+            zs[slot] = point.z();
+            link(slot, cellKey(point.x(), point.y(), point.z()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(@NotNull Entity entity) {
+        lock.writeLock().lock();
+        try {
+            final int slot = slots.remove(entity.getEntityId());
+            if (slot == NONE) return;
+            unlink(slot);
+            entities[slot] = null;
+            targetMasks[slot] = 0;
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void move(@NotNull Entity entity, @NotNull Point point) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final long cell = cellKey(x, y, z);
+        lock.writeLock().lock();
+        try {
+            final int slot = slots.get(entity.getEntityId());
+            if (slot == NONE) return;
+            xs[slot] = x;
+            ys[slot] = y;
+            zs[slot] = z;
+            if (cells[slot] != cell) {
+                unlink(slot);
+                link(slot, cell);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    <T extends Entity> void nearbyEntities(@NotNull Point point, double range, int targetOrdinal, @NotNull Consumer<T> query) {
+        final double x = point.x(), y = point.y(), z = point.z();
+        final double squaredRange = range * range;
+        final int targetMask = 1 << targetOrdinal;
+        final Entity[] result;
+        lock.readLock().lock();
+        try {
+            result = collect(x - range, y - range, z - range, x + range, y + range, z + range, slot -> {
+                if ((targetMasks[slot] & targetMask) == 0) return false;
+                final double dx = xs[slot] - x, dy = ys[slot] - y, dz = zs[slot] - z;
+                return dx * dx + dy * dy + dz * dz <= squaredRange;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        accept(result, query);
+    }
+
+    <T extends Entity> void entitiesInBox(double minX, double minY, double minZ,
+                                          double maxX, double maxY, double maxZ,
+                                          int targetOrdinal, @NotNull Consumer<T> query) {
+        final int targetMask = 1 << targetOrdinal;
+        final Entity[] result;
+        lock.readLock().lock();
+        try {
+            result = collect(minX, minY, minZ, maxX, maxY, maxZ, slot -> {
+                if ((targetMasks[slot] & targetMask) == 0) return false;
+                final double x = xs[slot], y = ys[slot], z = zs[slot];
+                return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        accept(result, query);
+    }
+
+    private Entity[] collect(double minX, double minY, double minZ,
+                             double maxX, double maxY, double maxZ, SlotFilter filter) {
+        final int minCellX = cellCoordinate(minX), minCellY = cellCoordinate(minY), minCellZ = cellCoordinate(minZ);
+        final int maxCellX = cellCoordinate(maxX), maxCellY = cellCoordinate(maxY), maxCellZ = cellCoordinate(maxZ);
+        final long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) * (maxCellZ - minCellZ + 1);
+        Entity[] result = null;
+        int count = 0;
+        if (cellCount > slots.size()) {
+            // Visiting every cell would be slower than scanning all entities
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (entities[slot] == null || !filter.test(slot)) continue;
+                if (result == null) result = new Entity[8];
+                else if (count == result.length) result = Arrays.copyOf(result, count * 2);
+                result[count++] = entities[slot];
+            }
+        } else {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        for (int slot = cellHeads.get(cellKey(cellX, cellY, cellZ)); slot != NONE; slot = next[slot]) {
+                            if (!filter.test(slot)) continue;
+                            if (result == null) result = new Entity[8];
+                            else if (count == result.length) result = Arrays.copyOf(result, count * 2);
+                            result[count++] = entities[slot];
+                        }
+                    }
+                }
+            }
+        }
+        if (result != null && count < result.length) result[count] = null;
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Entity> void accept(Entity[] result, Consumer<T> query) {
+        if (result == null) return;
+        for (Entity entity : result) {
+            if (entity == null) break;
+            query.accept((T) entity);
+        }
+    }
+
+    private void link(int slot, long cell) {
+        final int head = cellHeads.put(cell, slot);
+        cells[slot] = cell;
+        previous[slot] = NONE;
+        next[slot] = head;
+        if (head != NONE) previous[head] = slot;
+    }
+
+    private void unlink(int slot) {
+        final int previousSlot = previous[slot];
+        final int nextSlot = next[slot];
+        if (nextSlot != NONE) previous[nextSlot] = previousSlot;
+        if (previousSlot != NONE) {
+            next[previousSlot] = nextSlot;
+        } else if (nextSlot != NONE) {
+            cellHeads.put(cells[slot], nextSlot);
+        } else {
+            cellHeads.remove(cells[slot]);
+        }
+    }
+
+    private void grow(int capacity) {
+        this.entities = Arrays.copyOf(entities, capacity);
+        this.xs = Arrays.copyOf(xs, capacity);
+        this.ys = Arrays.copyOf(ys, capacity);
+        this.zs = Arrays.copyOf(zs, capacity);
+        this.cells = Arrays.copyOf(cells, capacity);
+        this.targetMasks = Arrays.copyOf(targetMasks, capacity);
+        this.next = Arrays.copyOf(next, capacity);
+        this.previous = Arrays.copyOf(previous, capacity);
+    }
+
+    private int cellCoordinate(double value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    private long cellKey(double x, double y, double z) {
+        return cellKey(cellCoordinate(x), cellCoordinate(y), cellCoordinate(z));
+    }
+
+    private static long cellKey(int cellX, int cellY, int cellZ) {
+        return ((long) (cellX & 0x1FFFFF) << 42) | ((long) (cellY & 0x1FFFFF) << 21) | (cellZ & 0x1FFFFF);
+    }
+
+    @FunctionalInterface
+    private interface SlotFilter {
+        boolean test(int slot);
+    }
+}
@@ -1,5 +1,6 @@
 package net.minestom.server.instance;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
@@ -24,7 +25,18 @@ import java.util.function.Consumer;
  */
 public sealed interface EntityTracker permits EntityTrackerImpl {
     static @NotNull EntityTracker newTracker() {
-        return new EntityTrackerImpl();
+        return new EntityTrackerImpl(ServerFlag.ENTITY_TRACKER_CELL_SIZE);
+    }
+
+    /**
+     * Creates a tracker additionally indexing entities in a spatial hash of cubic cells,
+     * speeding up {@link #nearbyEntities(Point, double, Target, Consumer)} and
+     * {@link #entitiesInBox(Point, Point, Target, Consumer)} for small ranges.
+     *
+     * @param cellSize the size of a cell in blocks, 0 to only index by chunk
+     */
+    static @NotNull EntityTracker newTracker(int cellSize) {
+        return new EntityTrackerImpl(cellSize);
     }
 
     /**
@@ -80,6 +92,12 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
     <T extends Entity> void nearbyEntities(@NotNull Point point, double range,
                                            @NotNull Target<T> target, @NotNull Consumer<T> query);
 
+    /**
+     * Gets the entities whose position is within a box.
+     */
+    <T extends Entity> void entitiesInBox(@NotNull Point start, @NotNull Point end,
+                                          @NotNull Target<T> target, @NotNull Consumer<T> query);
+
     /**
      * Gets all the entities tracked by this class.
      */
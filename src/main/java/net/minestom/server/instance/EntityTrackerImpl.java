@@ -40,6 +40,16 @@ final class EntityTrackerImpl implements EntityTracker {
 
     private final Int2ObjectSyncMap<EntityTrackerEntry> entriesByEntityId = Int2ObjectSyncMap.hashmap();
     private final Map<UUID, EntityTrackerEntry> entriesByEntityUuid = new ConcurrentHashMap<>();
+    // Finer index for range queries, null to use the chunk lists
+    private final EntitySpatialHash spatialHash;
+
+    EntityTrackerImpl(int cellSize) {
+        this.spatialHash = cellSize > 0 ? new EntitySpatialHash(cellSize) : null;
+    }
+
+    EntityTrackerImpl() {
+        this(0);
+    }
 
     @Override
     public <T extends Entity> void register(@NotNull Entity entity, @NotNull Point point,
@@ -52,12 +62,15 @@ final class EntityTrackerImpl implements EntityTracker {
         Check.isTrue(prevEntryWithUuid == null, "There is already an entity registered with uuid {0}", entity.getUuid());
 
         final long index = getChunkIndex(point);
+        int targetMask = 0;
         for (TargetEntry<Entity> targetEntry : targetEntries) {
             if (targetEntry.target.type().isInstance(entity)) {
                 targetEntry.entities.add(entity);
                 targetEntry.addToChunk(index, entity);
+                targetMask |= 1 << targetEntry.target.ordinal();
             }
         }
+        if (spatialHash != null) spatialHash.add(entity, point, targetMask);
         if (update != null) {
             update.referenceUpdate(point, this);
             nearbyEntitiesByChunkRange(point, ServerFlag.ENTITY_VIEW_DISTANCE, target, newEntity -> {
@@ -74,6 +87,7 @@ final class EntityTrackerImpl implements EntityTracker {
         entriesByEntityUuid.remove(entity.getUuid());
         final Point point = entry == null ? null : entry.getLastPosition();
         if (point == null) return;
+        if (spatialHash != null) spatialHash.remove(entity);
 
         final long index = getChunkIndex(point);
         for (TargetEntry<Entity> targetEntry : targetEntries) {
@@ -113,6 +127,7 @@ final class EntityTrackerImpl implements EntityTracker {
         }
         Point oldPoint = entry.getLastPosition();
         entry.setLastPosition(newPoint);
+        if (spatialHash != null) spatialHash.move(entity, newPoint);
         if (oldPoint == null || oldPoint.sameChunk(newPoint)) return;
         final long oldIndex = getChunkIndex(oldPoint);
         final long newIndex = getChunkIndex(newPoint);
@@ -167,6 +182,10 @@ final class EntityTrackerImpl implements EntityTracker {
 
     @Override
     public <T extends Entity> void nearbyEntities(@NotNull Point point, double range, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        if (spatialHash != null) {
+            spatialHash.nearbyEntities(point, range, target.ordinal(), query);
+            return;
+        }
         final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
         final int minChunkX = ChunkUtils.getChunkCoordinate(point.x() - range);
         final int minChunkZ = ChunkUtils.getChunkCoordinate(point.z() - range);
@@ -198,6 +217,36 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
+    @Override
+    public <T extends Entity> void entitiesInBox(@NotNull Point start, @NotNull Point end, @NotNull Target<T> target, @NotNull Consumer<T> query) {
+        final double minX = Math.min(start.x(), end.x()), maxX = Math.max(start.x(), end.x());
+        final double minY = Math.min(start.y(), end.y()), maxY = Math.max(start.y(), end.y());
+        final double minZ = Math.min(start.z(), end.z()), maxZ = Math.max(start.z(), end.z());
+        if (spatialHash != null) {
+            spatialHash.entitiesInBox(minX, minY, minZ, maxX, maxY, maxZ, target.ordinal(), query);
+            return;
+        }
+        final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
+        final int minChunkX = ChunkUtils.getChunkCoordinate(minX);
+        final int minChunkZ = ChunkUtils.getChunkCoordinate(minZ);
+        final int maxChunkX = ChunkUtils.getChunkCoordinate(maxX);
+        final int maxChunkZ = ChunkUtils.getChunkCoordinate(maxZ);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final var chunkEntities = (List<T>) entities.get(getChunkIndex(chunkX, chunkZ));
+                if (chunkEntities == null || chunkEntities.isEmpty()) continue;
+                chunkEntities.forEach(entity -> {
+                    final Point position = entriesByEntityId.get(entity.getEntityId()).getLastPosition();
+                    if (position.x() >= minX && position.x() <= maxX &&
+                            position.y() >= minY && position.y() <= maxY &&
+                            position.z() >= minZ && position.z() <= maxZ) {
+                        query.accept(entity);
+                    }
+                });
+            }
+        }
+    }
+
     @Override
     public @UnmodifiableView @NotNull <T extends Entity> Set<@NotNull T> entities(@NotNull Target<T> target) {
         //noinspection unchecked
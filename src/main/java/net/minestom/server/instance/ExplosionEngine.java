@@ -0,0 +1,94 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.random.RandomGenerator;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.getBlockPositionIndex;
+
+/**
+ * Computes the blocks destroyed by an explosion, used by {@link Instance#explode(Point, float)}.
+ * <p>
+ * Rays are precomputed and marched without allocation, consecutive steps in the same block reuse the previous lookup
+ * and positions are deduplicated through a primitive set.
+ */
+final class ExplosionEngine {
+    private static final int RAY_GRID = 16;
+    private static final double STEP = 0.30000001192092896D;
+    // Unit direction of each ray (x, y, z), one ray per block on the surface of a 16x16x16 cube
+    private static final double[] RAYS = computeRays();
+
+    private ExplosionEngine() {
+    }
+
+    /**
+     * Gets the blocks destroyed by an explosion.
+     *
+     * @param blocks   the block getter, only the block type is read
+     * @param center   the center of the explosion
+     * @param strength the strength of the explosion
+     * @param random   the random used to vary the strength of each ray
+     * @return the affected block positions, packed with {@link net.minestom.server.utils.chunk.ChunkUtils#getBlockPositionIndex(int, int, int)}
+     */
+    static @NotNull LongArrayList affectedBlocks(@NotNull Block.Getter blocks, @NotNull Point center,
+                                                float strength, @NotNull RandomGenerator random) {
+        final LongOpenHashSet visited = new LongOpenHashSet();
+        final LongArrayList result = new LongArrayList();
+        final double centerX = center.x(), centerY = center.y(), centerZ = center.z();
+        final double[] rays = RAYS;
+        for (int i = 0; i < rays.length; i += 3) {
+            final double stepX = rays[i] * STEP, stepY = rays[i + 1] * STEP, stepZ = rays[i + 2] * STEP;
+            double x = centerX, y = centerY, z = centerZ;
+            int blockX = 0, blockY = Integer.MIN_VALUE, blockZ = 0;
+            float resistance = 0;
+            float strengthLeft = strength * (0.7F + random.nextFloat() * 0.6F);
+            for (; strengthLeft > 0.0F; strengthLeft -= 0.225F) {
+                final int currentX = (int) Math.floor(x), currentY = (int) Math.floor(y), currentZ = (int) Math.floor(z);
+                if (currentX != blockX || currentY != blockY || currentZ != blockZ) {
+                    blockX = currentX;
+                    blockY = currentY;
+                    blockZ = currentZ;
+                    final Block block = blocks.getBlock(currentX, currentY, currentZ, Block.Getter.Condition.TYPE);
+                    resistance = block.isAir() ? -1 : ((float) block.registry().explosionResistance() + 0.3F) * 0.3F;
+                }
+                if (resistance >= 0) {
+                    strengthLeft -= resistance;
+                    if (strengthLeft > 0.0F) {
+                        final long index = getBlockPositionIndex(currentX, currentY, currentZ);
+                        if (visited.add(index)) result.add(index);
+                    }
+                }
+                x += stepX;
+                y += stepY;
+                z += stepZ;
+            }
+        }
+        return result;
+    }
+
+    private static double[] computeRays() {
+        final int last = RAY_GRID - 1;
+        final int count = RAY_GRID * RAY_GRID * RAY_GRID - (RAY_GRID - 2) * (RAY_GRID - 2) * (RAY_GRID - 2);
+        double[] rays = new double[count * 3];
+        int index = 0;
+        for (int x = 0; x < RAY_GRID; ++x) {
+            for (int y = 0; y < RAY_GRID; ++y) {
+                for (int z = 0; z < RAY_GRID; ++z) {
+                    if (x != 0 && x != last && y != 0 && y != last && z != 0 && z != last) continue;
+                    double xLength = (float) x / 15.0F * 2.0F - 1.0F;
+                    double yLength = (float) y / 15.0F * 2.0F - 1.0F;
+                    double zLength = (float) z / 15.0F * 2.0F - 1.0F;
+                    final double length = Math.sqrt(xLength * xLength + yLength * yLength + zLength * zLength);
+                    rays[index++] = xLength / length;
+                    rays[index++] = yLength / length;
+                    rays[index++] = zLength / length;
+                }
+            }
+        }
+        return rays;
+    }
+}
@@ -30,6 +30,9 @@ public interface IChunkLoader {
 
     /**
      * Loads a {@link Chunk}, all blocks should be set since the {@link net.minestom.server.instance.generator.Generator} is not applied.
+     * <p>
+     * Light restored with {@link Section#setSkyLight(byte[])} and {@link Section#setBlockLight(byte[])} is kept as is,
+     * a {@link LightingChunk} only computes its light when a section was loaded without it.
      *
      * @param instance the {@link Instance} where the {@link Chunk} belong
      * @param chunkX   the chunk X
@@ -44,6 +47,9 @@ public interface IChunkLoader {
 
     /**
      * Saves a {@link Chunk} with an optional callback for when it is done.
+     * <p>
+     * The light of a section should only be saved when {@link Section#isLightValid()},
+     * so that outdated light is computed again once loaded.
      *
      * @param chunk the {@link Chunk} to save
      * @return a {@link CompletableFuture} executed when the {@link Chunk} is done saving,
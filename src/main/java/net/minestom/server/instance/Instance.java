@@ -1,5 +1,6 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
@@ -11,7 +12,6 @@ import net.minestom.server.Tickable;
 import net.minestom.server.adventure.audience.PacketGroupingAudience;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.CollisionUtils;
-import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
@@ -53,7 +53,6 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
 
 /**
  * Instances are what are called "worlds" in Minecraft, you can add an entity in it using {@link Entity#setInstance(Instance)}.
@@ -67,6 +66,8 @@ import java.util.stream.Collectors;
 public abstract class Instance implements Block.Getter, Block.Setter,
         Tickable, EventHandler<InstanceEvent>, Taggable, PacketGroupingAudience {
     private static final Set<Instance> instances = new CopyOnWriteArraySet<>();
+    // Distance between an entity position and its bounding box edges covered by explosion queries
+    private static final double EXPLOSION_ENTITY_MARGIN = 16;
 
     /**
      * Gets all the registered instances.
@@ -122,7 +123,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
     // Field for tick events
     private long lastTickAge = System.currentTimeMillis();
 
-    private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private final EntityTracker entityTracker = EntityTracker.newTracker();
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -811,6 +812,22 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return eventNode;
     }
 
+    /**
+     * Sets the same block at multiple positions.
+     * <p>
+     * Implementations may group the client updates by section instead of sending one packet per block.
+     *
+     * @param positions the positions packed with {@link ChunkUtils#getBlockPositionIndex(int, int, int)}
+     * @param count     the number of positions to read
+     * @param block     the block to set
+     */
+    void setBlocks(long @NotNull [] positions, int count, @NotNull Block block) {
+        for (int i = 0; i < count; i++) {
+            final long pos = positions[i];
+            setBlock(ChunkUtils.getBlockPositionX(pos), ChunkUtils.getBlockPositionY(pos), ChunkUtils.getBlockPositionZ(pos), block);
+        }
+    }
+
     /**
      * Creates an explosion at the given position with the given strength.
      *
@@ -829,41 +846,11 @@ public abstract class Instance implements Block.Getter, Block.Setter,
      * @param additionalData data to pass to the explosion supplier
      */
     public void explode(Point center, float strength, @Nullable CompoundBinaryTag additionalData) {
-        List<Point> blocks = new ArrayList<>();
         ThreadLocalRandom random = ThreadLocalRandom.current();
-
-        if (additionalData == null || !additionalData.keySet().contains("breakBlocks") || additionalData.getByte("breakBlocks") == (byte) 1)
-            for (int x = 0; x < 16; ++x)
-                for (int y = 0; y < 16; ++y)
-                    for (int z = 0; z < 16; ++z)
-                        if (x == 0 || x == 15 || y == 0 || y == 15 || z == 0 || z == 15) {
-                            double xLength = (float) x / 15.0F * 2.0F - 1.0F;
-                            double yLength = (float) y / 15.0F * 2.0F - 1.0F;
-                            double zLength = (float) z / 15.0F * 2.0F - 1.0F;
-                            double length = Math.sqrt(xLength * xLength + yLength * yLength + zLength * zLength);
-                            xLength /= length;
-                            yLength /= length;
-                            zLength /= length;
-                            Point pos = center;
-
-                            float strengthLeft = strength * (0.7F + random.nextFloat() * 0.6F);
-                            for (; strengthLeft > 0.0F; strengthLeft -= 0.225F) {
-                                Block block = getBlock(pos);
-
-                                if (!block.isAir()) {
-                                    strengthLeft -= ((float) block.registry().explosionResistance() + 0.3F) * 0.3F;
-
-                                    if (strengthLeft > 0.0F) {
-                                        Point blockPos = new BlockVec(pos);
-                                        if (!blocks.contains(blockPos)) blocks.add(blockPos);
-                                    }
-                                }
-
-                                pos = pos.add(xLength * 0.30000001192092896D, yLength * 0.30000001192092896D, zLength * 0.30000001192092896D);
-                            }
-                        }
-
-
+        final LongArrayList blocks =
+                additionalData == null || !additionalData.keySet().contains("breakBlocks") || additionalData.getByte("breakBlocks") == (byte) 1 ?
+                        ExplosionEngine.affectedBlocks(new ChunkCache(this, null, Block.AIR), center, strength, random) :
+                        new LongArrayList();
 
         strength *= 2.0F;
         int minX = (int) Math.floor(center.x() - strength - 1.0D);
@@ -881,9 +868,13 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
         Point src = center.sub(0, explosionBox.height() / 2, 0);
 
-        Set<Entity> entities = getEntities().stream()
-                .filter(entity -> explosionBox.intersectEntity(src, entity))
-                .collect(Collectors.toSet());
+        List<Entity> entities = new ArrayList<>();
+        entityTracker.entitiesInBox(
+                src.add(explosionBox.minX() - EXPLOSION_ENTITY_MARGIN, -EXPLOSION_ENTITY_MARGIN, explosionBox.minZ() - EXPLOSION_ENTITY_MARGIN),
+                src.add(explosionBox.maxX() + EXPLOSION_ENTITY_MARGIN, explosionBox.maxY(), explosionBox.maxZ() + EXPLOSION_ENTITY_MARGIN),
+                EntityTracker.Target.ENTITIES, entity -> {
+                    if (explosionBox.intersectEntity(src, entity)) entities.add(entity);
+                });
 
         Damage damageObj;
         if (additionalData != null && additionalData.getBoolean("anchor")) damageObj = new Damage(DamageType.BAD_RESPAWN_POINT, null, null, null, 0);
@@ -891,10 +882,7 @@ public abstract class Instance implements Block.Getter, Block.Setter,
             LivingEntity causingEntity = null;
             if(additionalData != null) {
                 String uuid = additionalData.getString("causingEntity");
-                if(!uuid.isEmpty()) causingEntity = (LivingEntity) getEntities().stream()
-                        .filter(entity -> entity instanceof LivingEntity
-                                && entity.getUuid().equals(UUID.fromString(uuid)))
-                        .findAny().orElse(null);
+                if(!uuid.isEmpty() && getEntityByUuid(UUID.fromString(uuid)) instanceof LivingEntity living) causingEntity = living;
             }
 
             damageObj = new Damage(DamageType.PLAYER_EXPLOSION, causingEntity, causingEntity, null, 0);
@@ -963,16 +951,15 @@ public abstract class Instance implements Block.Getter, Block.Setter,
             }
         }
 
-        byte[] records = new byte[3 * blocks.size()];
-        for (int i = 0; i < blocks.size(); i++) {
-            final var pos = blocks.get(i);
-            setBlock(pos, Block.AIR);
-            final byte x = (byte) (pos.x() - center.blockX());
-            final byte y = (byte) (pos.y() - center.blockY());
-            final byte z = (byte) (pos.z() - center.blockZ());
-            records[i * 3] = x;
-            records[i * 3 + 1] = y;
-            records[i * 3 + 2] = z;
+        final long[] positions = blocks.elements();
+        final int blockCount = blocks.size();
+        setBlocks(positions, blockCount, Block.AIR);
+        byte[] records = new byte[3 * blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            final long pos = positions[i];
+            records[i * 3] = (byte) (ChunkUtils.getBlockPositionX(pos) - center.blockX());
+            records[i * 3 + 1] = (byte) (ChunkUtils.getBlockPositionY(pos) - center.blockY());
+            records[i * 3 + 2] = (byte) (ChunkUtils.getBlockPositionZ(pos) - center.blockZ());
         }
 
         Chunk chunk = getChunkAt(center.x(), center.z());
@@ -985,13 +972,15 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         }
 
         if (additionalData != null && additionalData.getBoolean("fire")) {
-            for (Point point : blocks) {
+            for (int i = 0; i < blockCount; i++) {
+                final long pos = positions[i];
+                final int x = ChunkUtils.getBlockPositionX(pos), y = ChunkUtils.getBlockPositionY(pos), z = ChunkUtils.getBlockPositionZ(pos);
                 if (random.nextInt(3) != 0
-                        || !getBlock(point).isAir()
-                        || !getBlock(point.sub(0, 1, 0)).isSolid())
+                        || !getBlock(x, y, z).isAir()
+                        || !getBlock(x, y - 1, z).isSolid())
                     continue;
 
-                setBlock(point, Block.FIRE);
+                setBlock(x, y, z, Block.FIRE);
             }
         }
     }
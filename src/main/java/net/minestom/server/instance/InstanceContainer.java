@@ -137,9 +137,18 @@ public class InstanceContainer extends Instance {
      * @param z     the block Z
      * @param block the block to place
      */
+    private void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
+                                 @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
+                                 boolean doBlockUpdates, int updateDistance) {
+        UNSAFE_setBlock(chunk, x, y, z, block, placement, destroy, doBlockUpdates, updateDistance, null);
+    }
+
+    /**
+     * Sets a block at the specified position, the client update is recorded in {@code changes} when not null.
+     */
     private synchronized void UNSAFE_setBlock(@NotNull Chunk chunk, int x, int y, int z, @NotNull Block block,
                                               @Nullable BlockHandler.Placement placement, @Nullable BlockHandler.Destroy destroy,
-                                              boolean doBlockUpdates, int updateDistance) {
+                                              boolean doBlockUpdates, int updateDistance, @Nullable SectionChanges changes) {
         if (chunk.isReadOnly()) return;
         final DimensionType dim = getCachedDimensionType();
         if (y >= dim.maxY() || y < dim.minY()) {
@@ -187,11 +196,13 @@ public class InstanceContainer extends Instance {
 
             // Refresh neighbors since a new block has been placed
             if (doBlockUpdates) {
-                executeNeighboursBlockPlacementRule(blockPosition, updateDistance);
+                executeNeighboursBlockPlacementRule(blockPosition, updateDistance, changes);
             }
 
             // Refresh player chunk block
-            {
+            if (changes != null) {
+                changes.add(x, y, z, block);
+            } else {
                 chunk.sendPacketToViewers(new BlockChangePacket(blockPosition, block.stateId()));
                 var registry = block.registry();
                 if (registry.isBlockEntity()) {
@@ -202,6 +213,18 @@ public class InstanceContainer extends Instance {
         }
     }
 
+    @Override
+    void setBlocks(long @NotNull [] positions, int count, @NotNull Block block) {
+        SectionChanges changes = new SectionChanges();
+        for (int i = 0; i < count; i++) {
+            final long position = positions[i];
+            final int x = getBlockPositionX(position), y = getBlockPositionY(position), z = getBlockPositionZ(position);
+            final Chunk chunk = getChunkAt(x, z);
+            if (isLoaded(chunk)) UNSAFE_setBlock(chunk, x, y, z, block, null, null, true, 0, changes);
+        }
+        changes.send(this);
+    }
+
     @Override
     public boolean placeBlock(@NotNull BlockHandler.Placement placement, boolean doBlockUpdates) {
         final Point blockPosition = placement.getBlockPosition();
@@ -584,7 +607,8 @@ public class InstanceContainer extends Instance {
      *
      * @param blockPosition the position of the modified block
      */
-    private void executeNeighboursBlockPlacementRule(@NotNull Point blockPosition, int updateDistance) {
+    private void executeNeighboursBlockPlacementRule(@NotNull Point blockPosition, int updateDistance,
+                                                     @Nullable SectionChanges changes) {
         ChunkCache cache = new ChunkCache(this, null, null);
         for (var updateFace : BLOCK_UPDATE_FACES) {
             var direction = updateFace.toDirection();
@@ -610,7 +634,7 @@ public class InstanceContainer extends Instance {
                 final Chunk chunk = getChunkAt(neighborPosition);
                 if (!isLoaded(chunk)) continue;
                 UNSAFE_setBlock(chunk, neighborPosition.blockX(), neighborPosition.blockY(), neighborPosition.blockZ(), newNeighborBlock,
-                        null, null, true, updateDistance + 1);
+                        null, null, true, updateDistance + 1, changes);
             }
         }
     }
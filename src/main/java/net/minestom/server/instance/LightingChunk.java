@@ -1,5 +1,7 @@
 package net.minestom.server.instance;
 
+import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.coordinate.Point;
@@ -35,7 +37,8 @@ import static net.minestom.server.instance.light.LightCompute.EMPTY_CONTENT;
  */
 public class LightingChunk extends DynamicChunk {
 
-    private static final ExecutorService pool = Executors.newWorkStealingPool();
+    static final ExecutorService pool = Executors.newWorkStealingPool(ServerFlag.LIGHTING_THREADS);
+    private static final boolean SCHEDULED = ServerFlag.LIGHTING_SCHEDULER;
 
     private int[] occlusionMap;
     final CachedPacket partialLightCache = new CachedPacket(this::createLightPacket);
@@ -50,6 +53,7 @@ public class LightingChunk extends DynamicChunk {
     private final int resendDelay = ServerFlag.SEND_LIGHT_AFTER_BLOCK_PLACEMENT_DELAY;
 
     private boolean doneInit = false;
+    private boolean generated = false;
 
     enum LightType {
         SKY,
@@ -117,7 +121,10 @@ public class LightingChunk extends DynamicChunk {
         if (freezeInvalidation) {
             return;
         }
+        invalidateNeighbors(coordinate);
+    }
 
+    private void invalidateNeighbors(int coordinate) {
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 Chunk neighborChunk = instance.getChunk(chunkX + i, chunkZ + j);
@@ -141,7 +148,10 @@ public class LightingChunk extends DynamicChunk {
         if (!doneInit || freezeInvalidation) {
             return;
         }
+        resetResendDelay();
+    }
 
+    void resetResendDelay() {
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 Chunk neighborChunk = instance.getChunk(chunkX + i, chunkZ + j);
@@ -162,12 +172,52 @@ public class LightingChunk extends DynamicChunk {
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = ChunkUtils.getChunkCoordinate(y);
         if (doneInit && !freezeInvalidation) {
+            if (SCHEDULED) {
+                LightingScheduler.scheduler().invalidate(this, coordinate);
+                return;
+            }
             invalidateNeighborsSection(coordinate);
             invalidateResendDelay();
             this.partialLightCache.invalidate();
         }
     }
 
+    /**
+     * Invalidates the light of a section and its neighbors, ignoring {@link #setFreezeInvalidation(boolean)}.
+     *
+     * @param coordinate the section Y
+     */
+    void invalidateSection(int coordinate) {
+        invalidateNeighbors(coordinate);
+        this.partialLightCache.invalidate();
+    }
+
+    @Override
+    public void setBlocks(int @NotNull [] indexes, @NotNull Block @NotNull [] blocks, int count) {
+        final boolean frozen = this.freezeInvalidation;
+        this.freezeInvalidation = true;
+        try {
+            super.setBlocks(indexes, blocks, count);
+        } finally {
+            this.freezeInvalidation = frozen;
+        }
+        this.occlusionMap = null;
+        if (!doneInit || frozen || count == 0) return;
+        // Invalidate each modified section once
+        final IntSet sections = new IntArraySet();
+        for (int i = 0; i < count; i++) {
+            sections.add(ChunkUtils.getChunkCoordinate(ChunkUtils.blockIndexToChunkPositionY(indexes[i])));
+        }
+        if (SCHEDULED) {
+            final LightingScheduler scheduler = LightingScheduler.scheduler();
+            sections.forEach(section -> scheduler.invalidate(this, section));
+            return;
+        }
+        sections.forEach(this::invalidateNeighborsSection);
+        invalidateResendDelay();
+        this.partialLightCache.invalidate();
+    }
+
     public void sendLighting() {
         if (!isLoaded()) return;
         sendPacketToViewers(partialLightCache);
@@ -175,13 +225,26 @@ public class LightingChunk extends DynamicChunk {
 
     @Override
     protected void onLoad() {
+        // Chunks from a loader keep the light they were saved with, unless it is missing or outdated
+        if (!generated && !hasValidLight()) invalidateLight();
         doneInit = true;
     }
 
     @Override
     public void onGenerate() {
         super.onGenerate();
+        this.generated = true;
+        invalidateLight();
+    }
 
+    private boolean hasValidLight() {
+        for (Section section : sections) {
+            if (!section.isLightValid()) return false;
+        }
+        return true;
+    }
+
+    private void invalidateLight() {
         for (int section = minSection; section < maxSection; section++) {
             getSection(section).blockLight().invalidate();
             getSection(section).skyLight().invalidate();
@@ -340,7 +403,8 @@ public class LightingChunk extends DynamicChunk {
 
         if (doneInit && resendTimer.get() > 0) {
             if (resendTimer.decrementAndGet() == 0) {
-                sendLighting();
+                if (SCHEDULED) LightingScheduler.scheduler().relight(this);
+                else sendLighting();
             }
         }
     }
@@ -556,8 +620,11 @@ public class LightingChunk extends DynamicChunk {
     @Override
     public @NotNull Chunk copy(@NotNull Instance instance, int chunkX, int chunkZ) {
         LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ);
-        lightingChunk.sections = sections.stream().map(Section::clone).toList();
-        lightingChunk.entries.putAll(entries);
+        // Cloned palettes share their storage, block writes must see them as shared
+        synchronized (this) {
+            lightingChunk.sections = sections.stream().map(Section::clone).toList();
+            lightingChunk.entries.putAll(entries);
+        }
         return lightingChunk;
     }
 
@@ -0,0 +1,194 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.IntArraySet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.timer.Scheduler;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Schedules the light updates of {@link LightingChunk}s, enabled with {@link ServerFlag#LIGHTING_SCHEDULER}.
+ * <p>
+ * Block changes only mark their section, each marked section is invalidated once at the end of the tick
+ * no matter how many times it changed. Chunks whose light must be resent are then relit by priority,
+ * closest to a player first, with at most {@link ServerFlag#LIGHTING_CHUNKS_PER_TICK} chunks being relit at once
+ * on {@link ServerFlag#LIGHTING_THREADS} relight threads. Remaining chunks stay queued for the next ticks.
+ * <p>
+ * Relight threads only wait for the section computations, which still run on the lighting pool. Keeping them
+ * out of the pool prevents its joins from spawning compensation threads.
+ */
+@ApiStatus.Experimental
+public final class LightingScheduler {
+    private static final LightingScheduler SCHEDULER = new LightingScheduler(ServerFlag.LIGHTING_CHUNKS_PER_TICK);
+    private static final ExecutorService RELIGHT_EXECUTOR = createRelightExecutor();
+
+    private final int chunksPerTick;
+
+    // Chunk -> sections changed since the last flush
+    private final Map<LightingChunk, IntSet> pendingSections = new ConcurrentHashMap<>();
+    // Chunk -> time at which its relight was requested
+    private final Map<LightingChunk, Long> pendingChunks = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final AtomicInteger runningChunks = new AtomicInteger();
+
+    private final LongAdder coalescedUpdates = new LongAdder();
+    private final LongAdder relitChunks = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    LightingScheduler(int chunksPerTick) {
+        this.chunksPerTick = Math.max(1, chunksPerTick);
+    }
+
+    private static ExecutorService createRelightExecutor() {
+        final AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, ServerFlag.LIGHTING_THREADS), runnable -> {
+            Thread thread = new Thread(runnable, "Ms-relight-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the scheduler used by lighting chunks when {@link ServerFlag#LIGHTING_SCHEDULER} is enabled.
+     *
+     * @return the lighting scheduler
+     */
+    public static @NotNull LightingScheduler scheduler() {
+        return SCHEDULER;
+    }
+
+    /**
+     * Gets a snapshot of the scheduler state.
+     *
+     * @return the current metrics
+     */
+    public @NotNull Metrics metrics() {
+        final long relit = relitChunks.sum();
+        return new Metrics(pendingChunks.size(), runningChunks.get(),
+                pendingSections.values().stream().mapToInt(IntSet::size).sum(),
+                relit, coalescedUpdates.sum(),
+                relit != 0 ? totalLatency.sum() / relit : 0, maxLatency.get());
+    }
+
+    /**
+     * Marks a section of a chunk as changed, its light and the light of its neighbors is invalidated at the end of the tick.
+     *
+     * @param chunk   the modified chunk
+     * @param section the modified section Y
+     */
+    void invalidate(@NotNull LightingChunk chunk, int section) {
+        pendingSections.compute(chunk, (c, sections) -> {
+            if (sections == null) sections = new IntArraySet();
+            if (!sections.add(section)) coalescedUpdates.increment();
+            return sections;
+        });
+        scheduleFlush();
+    }
+
+    /**
+     * Queues a chunk to have its light computed and sent to its viewers.
+     *
+     * @param chunk the chunk to relight
+     */
+    void relight(@NotNull LightingChunk chunk) {
+        if (pendingChunks.putIfAbsent(chunk, System.nanoTime()) != null) coalescedUpdates.increment();
+        scheduleFlush();
+    }
+
+    boolean isQueued(@NotNull LightingChunk chunk) {
+        return pendingChunks.containsKey(chunk);
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) Scheduler.scheduleEndOfTick(this::flush);
+    }
+
+    void flush() {
+        this.flushScheduled.set(false);
+        // Invalidate each changed section once
+        for (LightingChunk chunk : pendingSections.keySet()) {
+            final IntSet sections = pendingSections.remove(chunk);
+            if (sections == null) continue;
+            sections.forEach(chunk::invalidateSection);
+            chunk.resetResendDelay();
+        }
+        if (pendingChunks.isEmpty()) return;
+        // Relight the chunks closest to players first
+        final int budget = chunksPerTick - runningChunks.get();
+        if (budget > 0) {
+            List<LightingChunk> chunks = new ArrayList<>(pendingChunks.keySet());
+            if (chunks.size() > budget) {
+                final Map<LightingChunk, Double> distances = new HashMap<>();
+                for (LightingChunk chunk : chunks) distances.put(chunk, playerDistance(chunk));
+                chunks.sort(Comparator.comparingDouble(distances::get));
+                chunks = chunks.subList(0, budget);
+            }
+            for (LightingChunk chunk : chunks) {
+                final Long requestTime = pendingChunks.remove(chunk);
+                if (requestTime == null) continue;
+                this.runningChunks.incrementAndGet();
+                RELIGHT_EXECUTOR.execute(() -> {
+                    try {
+                        chunk.sendLighting();
+                    } catch (Throwable t) {
+                        MinecraftServer.getExceptionManager().handleException(t);
+                    } finally {
+                        final long latency = System.nanoTime() - requestTime;
+                        this.totalLatency.add(latency);
+                        this.maxLatency.accumulateAndGet(latency, Math::max);
+                        this.relitChunks.increment();
+                        this.runningChunks.decrementAndGet();
+                    }
+                });
+            }
+        }
+        if (!pendingChunks.isEmpty()) scheduleFlush();
+    }
+
+    private static double playerDistance(LightingChunk chunk) {
+        final double centerX = chunk.getChunkX() * Chunk.CHUNK_SIZE_X + Chunk.CHUNK_SIZE_X / 2.0;
+        final double centerZ = chunk.getChunkZ() * Chunk.CHUNK_SIZE_Z + Chunk.CHUNK_SIZE_Z / 2.0;
+        double closest = Double.MAX_VALUE;
+        for (Player player : chunk.getInstance().getPlayers()) {
+            final Pos position = player.getPosition();
+            final double dx = position.x() - centerX;
+            final double dz = position.z() - centerZ;
+            closest = Math.min(closest, dx * dx + dz * dz);
+        }
+        return closest;
+    }
+
+    /**
+     * State of a {@link LightingScheduler}.
+     *
+     * @param queuedChunks        the chunks waiting to be relit
+     * @param runningChunks       the chunks being relit
+     * @param pendingSections     the changed sections waiting to be invalidated
+     * @param relitChunks         the chunks relit since the start
+     * @param coalescedUpdates    the section changes and relight requests merged with a pending one
+     * @param averageLatencyNanos the average time between a relight request and the light being sent
+     * @param maxLatencyNanos     the longest time between a relight request and the light being sent
+     */
+    public record Metrics(int queuedChunks, int runningChunks, int pendingSections,
+                          long relitChunks, long coalescedUpdates,
+                          long averageLatencyNanos, long maxLatencyNanos) {
+    }
+}
@@ -0,0 +1,53 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.utils.async.AsyncUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Instance whose chunks are lightweight copies of the chunks of a shared base instance.
+ * <p>
+ * Chunks are copied from the base instance when loaded, and share their block and biome palettes and their light
+ * with it until modified, which makes lightly modified copies of the same world cheap (e.g. one instance per party).
+ * Each loaded chunk still costs its own chunk and section objects, heightmaps, and a copy of its block entry map
+ * (one entry per block with a handler or block entity). Modified sections allocate their own palette,
+ * and relit sections their own light (up to 4 KB per section).
+ * The overlay has its own entities, time, weather and world border, and is never saved.
+ * <p>
+ * The base instance is not locked, it should be left untouched once overlays exist. Its modifications are only
+ * visible to overlay chunks loaded afterward, the chunks already loaded keep the previous blocks: an overlay
+ * can end up mixing both states across chunk borders. Modifications of an overlay chunk are lost when it is unloaded.
+ */
+public class OverlayInstance extends InstanceContainer {
+    private final InstanceContainer base;
+
+    public OverlayInstance(@NotNull InstanceContainer base) {
+        super(base.getDimensionType());
+        this.base = base;
+        setChunkLoader(new BaseChunkLoader(base));
+        setWorldSpawnPosition(base.getWorldSpawn());
+    }
+
+    /**
+     * Gets the instance from which the chunks are copied.
+     *
+     * @return the base instance
+     */
+    public @NotNull InstanceContainer getBase() {
+        return base;
+    }
+
+    private record BaseChunkLoader(InstanceContainer base) implements IChunkLoader {
+        @Override
+        public @NotNull CompletableFuture<@Nullable Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            return base.loadChunk(chunkX, chunkZ).thenApply(chunk -> chunk.copy(instance, chunkX, chunkZ));
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            return AsyncUtils.VOID_FUTURE;
+        }
+    }
+}
@@ -47,13 +47,15 @@ public final class Section implements NetworkBuffer.Writer {
 
     @Override
     public @NotNull Section clone() {
-        final Light skyLight = Light.sky();
-        final Light blockLight = Light.block();
-
-        skyLight.set(this.skyLight.array());
-        blockLight.set(this.blockLight.array());
+        // Valid light arrays are shared, outdated light must be computed again
+        return new Section(this.blockPalette.clone(), this.biomePalette.clone(),
+                this.skyLight.isValid() ? Light.copy(this.skyLight) : invalidated(Light.sky()),
+                this.blockLight.isValid() ? Light.copy(this.blockLight) : invalidated(Light.block()));
+    }
 
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+    private static Light invalidated(Light light) {
+        light.invalidate();
+        return light;
     }
 
     @Override
@@ -77,6 +79,18 @@ public final class Section implements NetworkBuffer.Writer {
         else this.blockLight.set(copyArray);
     }
 
+    /**
+     * Gets whether the sky and block light of this section are up-to-date.
+     * <p>
+     * Chunk loaders should only persist the light of valid sections, sections restored with
+     * {@link #setSkyLight(byte[])} and {@link #setBlockLight(byte[])} are considered valid when loaded.
+     *
+     * @return true if both lights are valid
+     */
+    public boolean isLightValid() {
+        return skyLight.isValid() && blockLight.isValid();
+    }
+
     public Light skyLight() {
         return skyLight;
     }
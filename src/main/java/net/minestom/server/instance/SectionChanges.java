@@ -0,0 +1,129 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.ints.Int2LongLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.BlockChangePacket;
+import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
+import net.minestom.server.utils.block.BlockUtils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import static net.minestom.server.utils.chunk.ChunkUtils.getChunkCoordinate;
+
+/**
+ * Collects block changes to send them with one {@link MultiBlockChangePacket} per modified section.
+ * <p>
+ * Not thread-safe.
+ */
+@ApiStatus.Internal
+public final class SectionChanges {
+    // Section position -> position in the section -> encoded block record
+    private final Long2ObjectMap<Int2LongMap> sections = new Long2ObjectOpenHashMap<>();
+    // Block position -> block entity data
+    private final Long2ObjectMap<BlockEntityDataPacket> blockEntities = new Long2ObjectLinkedOpenHashMap<>();
+    private int size;
+
+    /**
+     * Records a block change, the last change of a position overrides the previous ones.
+     *
+     * @param x     the block X
+     * @param y     the block Y
+     * @param z     the block Z
+     * @param block the new block
+     */
+    public void add(int x, int y, int z, @NotNull Block block) {
+        final long section = sectionPosition(getChunkCoordinate(x), getChunkCoordinate(y), getChunkCoordinate(z));
+        Int2LongMap records = sections.get(section);
+        if (records == null) {
+            records = new Int2LongLinkedOpenHashMap();
+            sections.put(section, records);
+        }
+        final int local = (x & 0xF) << 8 | (z & 0xF) << 4 | (y & 0xF);
+        if (!records.containsKey(local)) this.size++;
+        records.put(local, (long) block.stateId() << 12 | local);
+        final long position = blockPosition(x, y, z);
+        final var registry = block.registry();
+        if (registry.isBlockEntity()) {
+            final CompoundBinaryTag data = BlockUtils.extractClientNbt(block);
+            blockEntities.put(position, new BlockEntityDataPacket(new Vec(x, y, z), registry.blockEntityId(), data));
+        } else {
+            blockEntities.remove(position);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the number of changed positions.
+     *
+     * @return the changed position count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of modified sections, which is the number of packets sent by {@link #send(Instance)}.
+     *
+     * @return the section count
+     */
+    public int sectionCount() {
+        return sections.size();
+    }
+
+    /**
+     * Sends the changes to the viewers of each modified chunk and clears them.
+     *
+     * @param instance the instance containing the modified chunks
+     */
+    public void send(@NotNull Instance instance) {
+        for (Long2ObjectMap.Entry<Int2LongMap> entry : sections.long2ObjectEntrySet()) {
+            final long section = entry.getLongKey();
+            final Chunk chunk = instance.getChunk((int) (section >> 42), (int) (section << 22 >> 42));
+            if (chunk == null) continue;
+            chunk.sendPacketToViewers(createPacket(section, entry.getValue()));
+        }
+        for (BlockEntityDataPacket packet : blockEntities.values()) {
+            final Chunk chunk = instance.getChunkAt(packet.blockPosition());
+            if (chunk != null) chunk.sendPacketToViewers(packet);
+        }
+        clear();
+    }
+
+    public void clear() {
+        this.sections.clear();
+        this.blockEntities.clear();
+        this.size = 0;
+    }
+
+    private static ServerPacket createPacket(long section, Int2LongMap records) {
+        final long[] blocks = records.values().toLongArray();
+        if (blocks.length == 1) {
+            // Single change, avoid the section header
+            final long record = blocks[0];
+            final int x = (int) (section >> 42) << 4 | (int) (record >> 8 & 0xF);
+            final int y = (int) (section << 44 >> 44) << 4 | (int) (record & 0xF);
+            final int z = (int) (section << 22 >> 42) << 4 | (int) (record >> 4 & 0xF);
+            return new BlockChangePacket(new Vec(x, y, z), (int) (record >>> 12));
+        }
+        return new MultiBlockChangePacket(section, blocks);
+    }
+
+    private static long blockPosition(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static long sectionPosition(int chunkX, int section, int chunkZ) {
+        return ((long) (chunkX & 0x3FFFFF) << 42) | (section & 0xFFFFF) | ((long) (chunkZ & 0x3FFFFF) << 20);
+    }
+}
@@ -13,6 +13,7 @@ public class BatchOption {
     private boolean calculateInverse = false;
     private boolean unsafeApply = false;
     private boolean sendUpdate = true;
+    private boolean sectionUpdates = false;
 
     public BatchOption() {
     }
@@ -67,6 +68,21 @@ public class BatchOption {
         return sendUpdate;
     }
 
+    /**
+     * Gets if the batch writes the blocks in bulk and only sends the modified sections.
+     * <p>
+     * Plain blocks are written straight into the section palettes, heightmaps and lighting are refreshed once
+     * per chunk and modified section, and viewers receive one multi block change per modified section
+     * instead of the whole chunk. Has no effect on the update of {@link #isFullChunk() full chunk} batches.
+     * <p>
+     * Defaults to false.
+     *
+     * @return true if the batch sends section updates
+     */
+    public boolean isSectionUpdates() {
+        return sectionUpdates;
+    }
+
     /**
      * @param fullChunk true to make this batch composes the whole chunk
      * @return 'this' for chaining
@@ -104,6 +120,18 @@ public class BatchOption {
         return this;
     }
 
+    /**
+     * @param sectionUpdates true to make this batch write blocks in bulk and send section updates
+     * @return 'this' for chaining
+     * @see #isSectionUpdates()
+     */
+    @NotNull
+    @Contract("_ -> this")
+    public BatchOption setSectionUpdates(boolean sectionUpdates) {
+        this.sectionUpdates = sectionUpdates;
+        return this;
+    }
+
     @Contract("_ -> this")
     public BatchOption setSendUpdate(boolean sendUpdate) {
         this.sendUpdate = sendUpdate;
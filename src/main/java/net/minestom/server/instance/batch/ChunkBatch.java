@@ -7,6 +7,7 @@ import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.instance.Chunk;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.SectionChanges;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.timer.Scheduler;
 import net.minestom.server.utils.callback.OptionalCallback;
@@ -181,6 +182,13 @@ public class ChunkBatch implements Batch<ChunkCallback> {
                 return;
             }
 
+            if (options.isSectionUpdates()) {
+                final SectionChanges changes = bulkApply(chunk, inverse);
+                if (inverse != null) inverse.readyLatch.countDown();
+                updateSections(instance, chunk, changes, callback, safeCallback);
+                return;
+            }
+
             final IntSet sections = new IntArraySet();
             synchronized (blocks) {
                 for (var entry : blocks.int2ObjectEntrySet()) {
@@ -218,6 +226,67 @@ public class ChunkBatch implements Batch<ChunkCallback> {
         return ChunkUtils.getChunkCoordinate(y);
     }
 
+    /**
+     * Applies all the block changes at once, see {@link BatchOption#isSectionUpdates()}.
+     *
+     * @return the changes to send, grouped by section
+     */
+    private SectionChanges bulkApply(@NotNull Chunk chunk, @Nullable ChunkBatch inverse) {
+        final SectionChanges changes = new SectionChanges();
+        final int offsetX = chunk.getChunkX() * Chunk.CHUNK_SIZE_X;
+        final int offsetZ = chunk.getChunkZ() * Chunk.CHUNK_SIZE_Z;
+        synchronized (blocks) {
+            final int count = blocks.size();
+            final int[] indexes = new int[count];
+            final Block[] values = new Block[count];
+            int i = 0;
+            for (var entry : blocks.int2ObjectEntrySet()) {
+                final int index = entry.getIntKey();
+                final Block block = entry.getValue();
+                final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+                final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+                final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+                indexes[i] = index;
+                values[i++] = block;
+                changes.add(offsetX + x, y, offsetZ + z, block);
+            }
+            synchronized (chunk) {
+                if (inverse != null) {
+                    for (int j = 0; j < count; j++) {
+                        final int index = indexes[j];
+                        final int x = ChunkUtils.blockIndexToChunkPositionX(index);
+                        final int y = ChunkUtils.blockIndexToChunkPositionY(index);
+                        final int z = ChunkUtils.blockIndexToChunkPositionZ(index);
+                        inverse.setBlock(x, y, z, chunk.getBlock(x, y, z));
+                    }
+                }
+                chunk.setBlocks(indexes, values, count);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Sends the modified sections to the chunk viewers, and executes the callback.
+     */
+    private void updateSections(@NotNull Instance instance, Chunk chunk, SectionChanges changes,
+                                @Nullable ChunkCallback callback, boolean safeCallback) {
+        if (options.shouldSendUpdate()) {
+            if (options.isFullChunk()) {
+                chunk.sendChunk();
+            } else {
+                changes.send(instance);
+            }
+        }
+
+        if (instance instanceof InstanceContainer container) container.refreshLastBlockChangeTime();
+
+        if (callback != null) {
+            if (safeCallback) Scheduler.scheduleNextTick(() -> callback.accept(chunk));
+            else callback.accept(chunk);
+        }
+    }
+
     /**
      * Updates the given chunk for all of its viewers, and executes the callback.
      */
@@ -13,6 +13,7 @@ import net.minestom.server.utils.NamespaceID;
 import org.jetbrains.annotations.*;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiPredicate;
@@ -53,6 +54,47 @@ public sealed interface Block extends StaticProtocolObject, TagReadable, Blocks
     @Contract(pure = true)
     @NotNull Block withProperties(@NotNull Map<@NotNull String, @NotNull String> properties);
 
+    /**
+     * Returns the interned handle of a property of this block type.
+     * <p>
+     * Handles skip the name lookups of {@link #withProperty(String, String)}
+     * and are valid for every state of this block type.
+     *
+     * @param property the property name
+     * @return the property handle, null if this block does not have the property
+     */
+    @Contract(pure = true)
+    @Nullable Property property(@NotNull String property);
+
+    /**
+     * Creates a new block with the property {@code property} sets to the value at {@code valueIndex}.
+     *
+     * @param property   the property handle, from {@link #property(String)}
+     * @param valueIndex the index of the value in {@link Property#values()}
+     * @return a new block with its property changed
+     * @throws IllegalArgumentException  if the property does not belong to this block type
+     * @throws IndexOutOfBoundsException if the value index is invalid
+     */
+    @Contract(pure = true)
+    @NotNull Block withProperty(@NotNull Property property, int valueIndex);
+
+    /**
+     * Creates a new block with the property {@code property} sets to {@code value}.
+     *
+     * @param property the property handle, from {@link #property(String)}
+     * @param value    the property value
+     * @return a new block with its property changed
+     * @throws IllegalArgumentException if the property or value are invalid
+     */
+    @Contract(pure = true)
+    default @NotNull Block withProperty(@NotNull Property property, @NotNull String value) {
+        final int index = property.indexOf(value);
+        if (index == -1) {
+            throw new IllegalArgumentException("Property " + property.key() + " value " + value + " is not valid for block " + this);
+        }
+        return withProperty(property, index);
+    }
+
     /**
      * Creates a new block with a tag modified.
      *
@@ -134,6 +176,28 @@ public sealed interface Block extends StaticProtocolObject, TagReadable, Blocks
         return properties().get(property);
     }
 
+    /**
+     * Returns the index of the current value of a property.
+     *
+     * @param property the property handle, from {@link #property(String)}
+     * @return the index of the value in {@link Property#values()}
+     * @throws IllegalArgumentException if the property does not belong to this block type
+     */
+    @Contract(pure = true)
+    int propertyIndex(@NotNull Property property);
+
+    /**
+     * Returns a property value using its handle.
+     *
+     * @param property the property handle, from {@link #property(String)}
+     * @return the property value
+     * @throws IllegalArgumentException if the property does not belong to this block type
+     */
+    @Contract(pure = true)
+    default @NotNull String getProperty(@NotNull Property property) {
+        return property.values().get(propertyIndex(property));
+    }
+
     @Contract(pure = true)
     @NotNull Collection<@NotNull Block> possibleStates();
 
@@ -201,6 +265,23 @@ public sealed interface Block extends StaticProtocolObject, TagReadable, Blocks
         return BlockImpl.getId(blockId);
     }
 
+    /**
+     * Interned property of a block type, obtained from {@link #property(String)}.
+     */
+    sealed interface Property permits BlockImpl.PropertyType {
+        @NotNull String key();
+
+        @NotNull List<String> values();
+
+        /**
+         * Gets the index of a value of this property.
+         *
+         * @param value the property value
+         * @return the value index, -1 if not valid
+         */
+        int indexOf(@NotNull String value);
+    }
+
     @FunctionalInterface
     interface Comparator extends BiPredicate<Block, Block> {
         Comparator IDENTITY = (b1, b2) -> b1 == b2;
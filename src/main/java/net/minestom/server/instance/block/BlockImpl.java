@@ -1,6 +1,5 @@
 package net.minestom.server.instance.block;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMaps;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
@@ -14,10 +13,7 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.jetbrains.annotations.Unmodifiable;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 
 record BlockImpl(@NotNull Registry.BlockEntry registry,
                  int propertiesArray,
@@ -36,8 +32,8 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     private static final ObjectArray<Block> BLOCK_STATE_MAP = ObjectArray.singleThread();
     // Block id -> valid property keys (order is important for lookup)
     private static final ObjectArray<PropertyType[]> PROPERTIES_TYPE = ObjectArray.singleThread();
-    // Block id -> Map<Properties, Block>
-    private static final ObjectArray<Int2ObjectArrayMap<BlockImpl>> POSSIBLE_STATES = ObjectArray.singleThread();
+    // Block id -> all states, indexed by the mixed-radix sum of their property value indexes
+    private static final ObjectArray<BlockImpl[]> POSSIBLE_STATES = ObjectArray.singleThread();
     private static final Registry.Container<Block> CONTAINER = Registry.createStaticContainer(Registry.Resource.BLOCKS,
             (namespace, properties) -> {
                 final int blockId = properties.getInt("id");
@@ -54,10 +50,13 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                         }
                         propertyTypes = new PropertyType[stateCount];
                         int i = 0;
+                        int stride = 1;
                         for (var entry : stateProperties) {
                             final var k = entry.getKey();
-                            final var v = (List<String>) entry.getValue();
-                            propertyTypes[i++] = new PropertyType(k, v);
+                            final var v = List.copyOf((List<String>) entry.getValue());
+                            propertyTypes[i] = new PropertyType(blockId, i, stride, k, v);
+                            stride *= v.size();
+                            i++;
                         }
                     } else {
                         propertyTypes = new PropertyType[0];
@@ -68,9 +67,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                 // Retrieve block states
                 {
                     final int propertiesCount = stateObject.size();
-                    int[] propertiesKeys = new int[propertiesCount];
-                    BlockImpl[] blocksValues = new BlockImpl[propertiesCount];
-                    int propertiesOffset = 0;
+                    BlockImpl[] states = new BlockImpl[propertiesCount];
                     for (var stateEntry : stateObject) {
                         final String query = stateEntry.getKey();
                         final var stateOverride = (Map<String, Object>) stateEntry.getValue();
@@ -87,20 +84,38 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
                         final BlockImpl block = new BlockImpl(Registry.block(namespace, mainProperties),
                                 propertiesValue, null, null);
                         BLOCK_STATE_MAP.set(block.stateId(), block);
-                        propertiesKeys[propertiesOffset] = propertiesValue;
-                        blocksValues[propertiesOffset++] = block;
+                        final int stateIndex = stateIndex(propertyTypes, propertiesValue);
+                        if (stateIndex >= states.length || states[stateIndex] != null) {
+                            throw new IllegalStateException("Block states do not cover all property combinations for " + namespace);
+                        }
+                        states[stateIndex] = block;
                     }
-                    POSSIBLE_STATES.set(blockId, new Int2ObjectArrayMap<>(propertiesKeys, blocksValues, propertiesOffset));
+                    POSSIBLE_STATES.set(blockId, states);
                 }
                 // Register default state
                 final int defaultState = properties.getInt("defaultStateId");
                 return getState(defaultState);
             });
 
+    // Block state -> index in POSSIBLE_STATES
+    private static final int[] STATE_INDEXES;
+
     static {
         PROPERTIES_TYPE.trim();
         BLOCK_STATE_MAP.trim();
         POSSIBLE_STATES.trim();
+
+        int maxStateId = 0;
+        for (Block block : CONTAINER.values()) {
+            for (BlockImpl state : POSSIBLE_STATES.get(block.id())) {
+                maxStateId = Math.max(maxStateId, state.stateId());
+            }
+        }
+        STATE_INDEXES = new int[maxStateId + 1];
+        for (Block block : CONTAINER.values()) {
+            final BlockImpl[] states = POSSIBLE_STATES.get(block.id());
+            for (int i = 0; i < states.length; i++) STATE_INDEXES[states[i].stateId()] = i;
+        }
     }
 
     static Block get(@NotNull String namespace) {
@@ -127,10 +142,37 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
     public @NotNull Block withProperty(@NotNull String property, @NotNull String value) {
         final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
         assert propertyTypes != null;
-        final byte keyIndex = findKeyIndex(propertyTypes, property, this);
-        final byte valueIndex = findValueIndex(propertyTypes[keyIndex], value, this);
-        final int updatedProperties = updateIndex(propertiesArray, keyIndex, valueIndex);
-        return compute(updatedProperties);
+        final PropertyType propertyType = propertyTypes[findKeyIndex(propertyTypes, property, this)];
+        return transition(propertyType, findValueIndex(propertyType, value, this));
+    }
+
+    @Override
+    public @Nullable Property property(@NotNull String property) {
+        final PropertyType[] propertyTypes = PROPERTIES_TYPE.get(id());
+        assert propertyTypes != null;
+        for (PropertyType propertyType : propertyTypes) {
+            if (propertyType.key().equals(property)) return propertyType;
+        }
+        return null;
+    }
+
+    @Override
+    public @NotNull Block withProperty(@NotNull Property property, int valueIndex) {
+        final PropertyType propertyType = (PropertyType) property;
+        if (propertyType.blockId() != id()) {
+            throw new IllegalArgumentException("Property " + property.key() + " is not valid for block " + this);
+        }
+        Objects.checkIndex(valueIndex, propertyType.values().size());
+        return transition(propertyType, valueIndex);
+    }
+
+    @Override
+    public int propertyIndex(@NotNull Property property) {
+        final PropertyType propertyType = (PropertyType) property;
+        if (propertyType.blockId() != id()) {
+            throw new IllegalArgumentException("Property " + property.key() + " is not valid for block " + this);
+        }
+        return extractIndex(propertiesArray, propertyType.index());
     }
 
     @Override
@@ -191,7 +233,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     @Override
     public @NotNull Collection<@NotNull Block> possibleStates() {
-        return Collection.class.cast(possibleProperties().values());
+        return Collections.unmodifiableList(Arrays.asList(possibleProperties()));
     }
 
     @Override
@@ -199,7 +241,7 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         return tag.read(Objects.requireNonNullElse(nbt, CompoundBinaryTag.empty()));
     }
 
-    private Int2ObjectArrayMap<BlockImpl> possibleProperties() {
+    private BlockImpl[] possibleProperties() {
         return POSSIBLE_STATES.get(id());
     }
 
@@ -222,14 +264,33 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
 
     private Block compute(int updatedProperties) {
         if (updatedProperties == this.propertiesArray) return this;
-        final BlockImpl block = possibleProperties().get(updatedProperties);
+        final BlockImpl block = possibleProperties()[stateIndex(PROPERTIES_TYPE.get(id()), updatedProperties)];
         assert block != null;
+        return withState(block);
+    }
+
+    private Block transition(PropertyType propertyType, int valueIndex) {
+        final int currentIndex = extractIndex(propertiesArray, propertyType.index());
+        if (currentIndex == valueIndex) return this;
+        final int stateIndex = STATE_INDEXES[stateId()] + (valueIndex - currentIndex) * propertyType.stride();
+        return withState(possibleProperties()[stateIndex]);
+    }
+
+    private Block withState(BlockImpl block) {
         // Reuse the same block instance if possible
         if (nbt == null && handler == null) return block;
         // Otherwise copy with the nbt and handler
         return new BlockImpl(block.registry(), block.propertiesArray, nbt, handler);
     }
 
+    private static int stateIndex(PropertyType[] propertyTypes, int propertiesArray) {
+        int index = 0;
+        for (PropertyType propertyType : propertyTypes) {
+            index += extractIndex(propertiesArray, propertyType.index()) * propertyType.stride();
+        }
+        return index;
+    }
+
     private static byte findKeyIndex(PropertyType[] properties, String key, BlockImpl block) {
         for (byte i = 0; i < properties.length; i++) {
             if (properties[i].key().equals(key)) return i;
@@ -252,7 +313,19 @@ record BlockImpl(@NotNull Registry.BlockEntry registry,
         }
     }
 
-    private record PropertyType(String key, List<String> values) {
+    /**
+     * Interned property of a block type.
+     *
+     * @param blockId the block owning this property
+     * @param index   the position of the property in the block properties
+     * @param stride  the state index distance between two consecutive values
+     */
+    record PropertyType(int blockId, int index, int stride,
+                        @NotNull String key, @NotNull List<String> values) implements Property {
+        @Override
+        public int indexOf(@NotNull String value) {
+            return values.indexOf(value);
+        }
     }
 
     static int updateIndex(int value, int index, byte newValue) {
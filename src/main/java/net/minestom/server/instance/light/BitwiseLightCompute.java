@@ -0,0 +1,188 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.block.BlockFace;
+import net.minestom.server.instance.palette.Palette;
+import net.minestom.server.utils.Direction;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static net.minestom.server.instance.light.LightCompute.*;
+
+/**
+ * Light propagation operating on whole sections at once, producing the same result as
+ * the breadth-first search of {@link LightCompute#computeBreadthFirst(Palette, ShortArrayFIFOQueue)}.
+ * <p>
+ * The palette is read once to build, for each direction, the bitmask of the blocks letting light through
+ * to their neighbor. Light levels are then spread from the brightest to the dimmest, each level being
+ * the set of blocks reached by shifting the previous level in the six directions.
+ * <p>
+ * Bits are indexed like light nibbles: {@code x | z << 4 | y << 8}, so a long holds 4 rows of a layer.
+ */
+final class BitwiseLightCompute {
+    private static final int WORDS = SECTION_SIZE * SECTION_SIZE * SECTION_SIZE / Long.SIZE;
+    private static final int LAYER_WORDS = SECTION_SIZE * SECTION_SIZE / Long.SIZE;
+    // Propagation masks of a section filled with air, only limited by the section borders
+    private static final long[][] OPEN_MASKS = new long[DIRECTIONS.length][WORDS];
+
+    static {
+        for (int index = 0; index < SECTION_SIZE * SECTION_SIZE * SECTION_SIZE; index++) {
+            for (Direction direction : DIRECTIONS) {
+                if (neighborIndex(index, direction) != -1) set(OPEN_MASKS[direction.ordinal()], index);
+            }
+        }
+    }
+
+    private BitwiseLightCompute() {
+    }
+
+    /**
+     * Computes light in one section.
+     *
+     * @param blockPalette blocks placed in section
+     * @param lightPre     shorts queue in format: [4bit light level][4bit y][4bit z][4bit x]
+     * @return the light nibbles of the section
+     */
+    static byte @NotNull [] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+        if (lightPre.isEmpty()) {
+            return EMPTY_CONTENT;
+        }
+        // Sources grouped by level
+        final long[][] sources = new long[16][];
+        int maxLevel = 0;
+        while (!lightPre.isEmpty()) {
+            final int entry = lightPre.dequeueShort();
+            final int level = (entry >> 12) & 15;
+            if (level == 0) continue;
+            if (sources[level] == null) sources[level] = new long[WORDS];
+            set(sources[level], entry & 0xFFF);
+            maxLevel = Math.max(maxLevel, level);
+        }
+        final byte[] lightArray = new byte[LIGHT_LENGTH];
+        if (maxLevel == 0) return lightArray;
+
+        final long[][] masks = maxLevel > 1 ? propagationMasks(blockPalette) : null;
+        final long[] lit = new long[WORDS];
+        long[] level = new long[WORDS];
+        long[] next = new long[WORDS];
+        boolean hasLevel = false;
+        for (int lightLevel = maxLevel; lightLevel > 0; lightLevel--) {
+            // Blocks reached from the previous level
+            if (hasLevel) propagate(level, masks, next);
+            final long[] levelSources = sources[lightLevel];
+            if (levelSources != null) {
+                for (int i = 0; i < WORDS; i++) next[i] |= levelSources[i];
+            }
+            // Only keep the blocks which are not already brighter
+            hasLevel = false;
+            for (int i = 0; i < WORDS; i++) {
+                long bits = next[i] & ~lit[i];
+                next[i] = bits;
+                if (bits == 0) continue;
+                lit[i] |= bits;
+                hasLevel = true;
+                final int value = lightLevel * 0x11;
+                while (bits != 0) {
+                    final int index = i << 6 | Long.numberOfTrailingZeros(bits);
+                    final int shift = (index & 1) << 2;
+                    lightArray[index >>> 1] = (byte) ((lightArray[index >>> 1] & (0xF0 >>> shift)) | (value & (0xF << shift)));
+                    bits &= bits - 1;
+                }
+            }
+            final long[] swap = level;
+            level = next;
+            next = swap;
+            Arrays.fill(next, 0);
+        }
+        return lightArray;
+    }
+
+    /**
+     * Computes the blocks letting light through to their neighbor, for each {@link Direction}.
+     *
+     * @param blockPalette blocks placed in section
+     * @return the masks indexed by {@link Direction#ordinal()}
+     */
+    static long[][] propagationMasks(Palette blockPalette) {
+        if (blockPalette.count() == 0) return OPEN_MASKS;
+        final int[] states = new int[SECTION_SIZE * SECTION_SIZE * SECTION_SIZE];
+        blockPalette.getAllPresent((x, y, z, value) -> states[x | (z << 4) | (y << 8)] = value);
+
+        final long[][] masks = new long[DIRECTIONS.length][WORDS];
+        // (state, neighbor state, direction) -> light passes through
+        final Long2BooleanMap cache = new Long2BooleanOpenHashMap();
+        for (Direction direction : DIRECTIONS) {
+            final long[] mask = masks[direction.ordinal()];
+            final long[] openMask = OPEN_MASKS[direction.ordinal()];
+            for (int index = 0; index < states.length; index++) {
+                if (!isSet(openMask, index)) continue;
+                final int state = states[index];
+                final int neighborState = states[neighborIndex(index, direction)];
+                final boolean passes;
+                if (state == 0 && neighborState == 0) {
+                    passes = true;
+                } else {
+                    final long key = (long) state << 32 | (long) neighborState << 3 | direction.ordinal();
+                    if (cache.containsKey(key)) {
+                        passes = cache.get(key);
+                    } else {
+                        passes = passes(state, neighborState, direction);
+                        cache.put(key, passes);
+                    }
+                }
+                if (passes) set(mask, index);
+            }
+        }
+        return masks;
+    }
+
+    private static boolean passes(int state, int neighborState, Direction direction) {
+        final Block block = Objects.requireNonNullElse(Block.fromStateId((short) state), Block.AIR);
+        final Block neighbor = Objects.requireNonNullElse(Block.fromStateId((short) neighborState), Block.AIR);
+        if (block.isAir() && neighbor.isAir()) return true;
+        return !block.registry().collisionShape().isOccluded(neighbor.registry().collisionShape(), BlockFace.fromDirection(direction));
+    }
+
+    private static void propagate(long[] from, long[][] masks, long[] to) {
+        final long[] down = masks[Direction.DOWN.ordinal()];
+        final long[] up = masks[Direction.UP.ordinal()];
+        final long[] north = masks[Direction.NORTH.ordinal()];
+        final long[] south = masks[Direction.SOUTH.ordinal()];
+        final long[] west = masks[Direction.WEST.ordinal()];
+        final long[] east = masks[Direction.EAST.ordinal()];
+        for (int i = 0; i < WORDS; i++) {
+            final long bits = from[i];
+            if (bits == 0) continue;
+            if (i >= LAYER_WORDS) to[i - LAYER_WORDS] |= bits & down[i];
+            if (i < WORDS - LAYER_WORDS) to[i + LAYER_WORDS] |= bits & up[i];
+            final long northBits = bits & north[i];
+            to[i] |= northBits >>> SECTION_SIZE;
+            if (i > 0) to[i - 1] |= northBits << (Long.SIZE - SECTION_SIZE);
+            final long southBits = bits & south[i];
+            to[i] |= southBits << SECTION_SIZE;
+            if (i < WORDS - 1) to[i + 1] |= southBits >>> (Long.SIZE - SECTION_SIZE);
+            to[i] |= (bits & west[i]) >>> 1 | (bits & east[i]) << 1;
+        }
+    }
+
+    private static int neighborIndex(int index, Direction direction) {
+        final int x = (index & 15) + direction.normalX();
+        final int z = ((index >> 4) & 15) + direction.normalZ();
+        final int y = ((index >> 8) & 15) + direction.normalY();
+        if (x < 0 || x >= SECTION_SIZE || y < 0 || y >= SECTION_SIZE || z < 0 || z >= SECTION_SIZE) return -1;
+        return x | (z << 4) | (y << 8);
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
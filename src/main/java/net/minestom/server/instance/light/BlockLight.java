@@ -129,6 +129,11 @@ final class BlockLight implements Light {
         return !isValidBorders;
     }
 
+    @Override
+    public boolean isValid() {
+        return content != null && isValidBorders;
+    }
+
     @Override
     @ApiStatus.Internal
     public void set(byte[] copyArray) {
@@ -138,6 +143,17 @@ final class BlockLight implements Light {
         this.needsSend.set(true);
     }
 
+    BlockLight copy() {
+        // Arrays are replaced when computed again, never modified in place
+        BlockLight copy = new BlockLight();
+        copy.content = content;
+        copy.contentPropagation = contentPropagation;
+        copy.contentPropagationSwap = contentPropagationSwap;
+        copy.isValidBorders = isValidBorders;
+        copy.needsSend.set(true);
+        return copy;
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
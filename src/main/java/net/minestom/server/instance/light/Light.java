@@ -19,6 +19,24 @@ public interface Light {
         return new BlockLight();
     }
 
+    /**
+     * Copies a light created with {@link #sky()} or {@link #block()}.
+     * <p>
+     * The copy shares the light arrays of the original, each light only allocates its own once computed again.
+     *
+     * @param light the light to copy
+     * @return the copy
+     * @throws IllegalArgumentException if the light is not created by Minestom
+     */
+    @ApiStatus.Internal
+    static Light copy(Light light) {
+        return switch (light) {
+            case SkyLight skyLight -> skyLight.copy();
+            case BlockLight blockLight -> blockLight.copy();
+            default -> throw new IllegalArgumentException("Unsupported light: " + light.getClass().getName());
+        };
+    }
+
     boolean requiresSend();
 
     @ApiStatus.Internal
@@ -32,6 +50,20 @@ public interface Light {
 
     boolean requiresUpdate();
 
+    /**
+     * Gets whether the light has been computed or set, and not invalidated since.
+     * <p>
+     * Valid light can be persisted with {@link #array()} and restored with {@link #set(byte[])}
+     * without having to be computed again.
+     * <p>
+     * Defaults to {@code !requiresUpdate()}, implementations able to tell if their content is missing should override it.
+     *
+     * @return true if the light is up-to-date
+     */
+    default boolean isValid() {
+        return !requiresUpdate();
+    }
+
     void set(byte[] copyArray);
 
     @ApiStatus.Internal
@@ -1,6 +1,7 @@
 package net.minestom.server.instance.light;
 
 import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.Shape;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockFace;
@@ -15,6 +16,7 @@ public final class LightCompute {
     static final Direction[] DIRECTIONS = Direction.values();
     static final int LIGHT_LENGTH = 16 * 16 * 16 / 2;
     static final int SECTION_SIZE = 16;
+    private static final boolean BITWISE = ServerFlag.LIGHTING_BITWISE;
 
     public static final byte[] EMPTY_CONTENT = new byte[LIGHT_LENGTH];
     public static final byte[] CONTENT_FULLY_LIT = new byte[LIGHT_LENGTH];
@@ -26,13 +28,28 @@ public final class LightCompute {
     /**
      * Computes light in one section
      * <p>
-     * Takes queue of lights positions and spreads light from this positions in 3d using Breadth-first search
+     * Uses {@link BitwiseLightCompute} if enabled with {@link ServerFlag#LIGHTING_BITWISE},
+     * {@link #computeBreadthFirst(Palette, ShortArrayFIFOQueue)} otherwise.
      *
      * @param blockPalette blocks placed in section
      * @param lightPre     shorts queue in format: [4bit light level][4bit y][4bit z][4bit x]
      * @return lighting wrapped in Result
      */
     static byte @NotNull [] compute(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
+        if (BITWISE) return BitwiseLightCompute.compute(blockPalette, lightPre);
+        return computeBreadthFirst(blockPalette, lightPre);
+    }
+
+    /**
+     * Computes light in one section
+     * <p>
+     * Takes queue of lights positions and spreads light from this positions in 3d using Breadth-first search
+     *
+     * @param blockPalette blocks placed in section
+     * @param lightPre     shorts queue in format: [4bit light level][4bit y][4bit z][4bit x]
+     * @return lighting wrapped in Result
+     */
+    static byte @NotNull [] computeBreadthFirst(Palette blockPalette, ShortArrayFIFOQueue lightPre) {
         if (lightPre.isEmpty()) {
             return EMPTY_CONTENT;
         }
@@ -132,6 +132,11 @@ final class SkyLight implements Light {
         return !isValidBorders;
     }
 
+    @Override
+    public boolean isValid() {
+        return content != null && isValidBorders;
+    }
+
     @Override
     @ApiStatus.Internal
     public void set(byte[] copyArray) {
@@ -141,6 +146,18 @@ final class SkyLight implements Light {
         this.needsSend.set(true);
     }
 
+    SkyLight copy() {
+        // Arrays are replaced when computed again, never modified in place
+        SkyLight copy = new SkyLight();
+        copy.content = content;
+        copy.contentPropagation = contentPropagation;
+        copy.contentPropagationSwap = contentPropagationSwap;
+        copy.isValidBorders = isValidBorders;
+        copy.fullyLit = fullyLit;
+        copy.needsSend.set(true);
+        return copy;
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
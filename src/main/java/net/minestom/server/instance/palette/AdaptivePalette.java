@@ -1,5 +1,6 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import net.minestom.server.network.NetworkBuffer;
@@ -74,11 +75,68 @@ final class AdaptivePalette implements Palette, Cloneable {
         flexiblePalette().replaceAll(function);
     }
 
+    @Override
+    public void copyTo(int @NotNull [] values) {
+        validateLength(values.length);
+        this.palette.copyTo(values);
+    }
+
+    @Override
+    public void copyTo(short @NotNull [] values) {
+        validateLength(values.length);
+        this.palette.copyTo(values);
+    }
+
+    @Override
+    public void copyFrom(int @NotNull [] values) {
+        validateLength(values.length);
+        SpecializedPalette newPalette = new FlexiblePalette(this);
+        newPalette.copyFrom(values);
+        this.palette = newPalette;
+    }
+
+    @Override
+    public void copyFrom(short @NotNull [] values) {
+        validateLength(values.length);
+        SpecializedPalette newPalette = new FlexiblePalette(this);
+        newPalette.copyFrom(values);
+        this.palette = newPalette;
+    }
+
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        if (minX < 0 || minY < 0 || minZ < 0 || maxX > dimension || maxY > dimension || maxZ > dimension) {
+            throw new IllegalArgumentException("Region must be inside the palette");
+        }
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        if (maxX - minX == dimension && maxY - minY == dimension && maxZ - minZ == dimension) {
+            fill(value);
+            return;
+        }
+        if (palette instanceof FilledPalette filledPalette && filledPalette.value() == value) return;
+        flexiblePalette().fill(minX, minY, minZ, maxX, maxY, maxZ, value);
+    }
+
+    @Override
+    public void replaceValues(@NotNull Int2IntMap replacements) {
+        if (palette instanceof FilledPalette filledPalette) {
+            final int value = filledPalette.value();
+            this.palette = new FilledPalette(dimension, replacements.getOrDefault(value, value));
+            return;
+        }
+        flexiblePalette().replaceValues(replacements);
+    }
+
     @Override
     public int count() {
         return palette.count();
     }
 
+    @Override
+    public int count(int value) {
+        return palette.count(value);
+    }
+
     @Override
     public int bitsPerEntry() {
         return palette.bitsPerEntry();
@@ -146,6 +204,11 @@ final class AdaptivePalette implements Palette, Cloneable {
         return currentPalette;
     }
 
+    private void validateLength(int length) {
+        if (length < maxSize())
+            throw new IllegalArgumentException("Array must contain at least " + maxSize() + " values");
+    }
+
     private static void validateDimension(int dimension) {
         if (dimension <= 1 || (dimension & dimension - 1) != 0)
             throw new IllegalArgumentException("Dimension must be a positive power of 2");
@@ -3,6 +3,8 @@ package net.minestom.server.instance.palette;
 import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+
 import static net.minestom.server.network.NetworkBuffer.BYTE;
 import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 
@@ -30,11 +32,26 @@ record FilledPalette(byte dim, int value) implements SpecializedPalette.Immutabl
         if (value != 0) getAll(consumer);
     }
 
+    @Override
+    public void copyTo(int @NotNull [] values) {
+        Arrays.fill(values, 0, maxSize(), value);
+    }
+
+    @Override
+    public void copyTo(short @NotNull [] values) {
+        Arrays.fill(values, 0, maxSize(), (short) value);
+    }
+
     @Override
     public int count() {
         return value != 0 ? maxSize() : 0;
     }
 
+    @Override
+    public int count(int value) {
+        return value == this.value ? maxSize() : 0;
+    }
+
     @Override
     public int dimension() {
         return dim;
@@ -1,5 +1,6 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minestom.server.MinecraftServer;
@@ -8,13 +9,14 @@ import net.minestom.server.utils.MathUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntUnaryOperator;
 
 import static net.minestom.server.network.NetworkBuffer.*;
 
 /**
  * Palette able to take any value anywhere. May consume more memory than required.
+ * <p>
+ * Clones share their storage until one of them is modified.
  */
 final class FlexiblePalette implements SpecializedPalette, Cloneable {
     private static final ThreadLocal<int[]> WRITE_CACHE = ThreadLocal.withInitial(() -> new int[4096]);
@@ -29,6 +31,8 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     IntArrayList paletteToValueList;
     // value = palette index
     private Int2IntOpenHashMap valueToPaletteMap;
+    // Whether the storage above may be referenced by a clone, and must be copied before any write
+    private boolean shared;
 
     FlexiblePalette(AdaptivePalette adaptivePalette, byte bitsPerEntry) {
         this.adaptivePalette = adaptivePalette;
@@ -73,6 +77,7 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
 
     @Override
     public void set(int x, int y, int z, int value) {
+        ensureOwned();
         value = getPaletteIndex(value);
         final int bitsPerEntry = this.bitsPerEntry;
         final long[] values = this.values;
@@ -93,34 +98,53 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
 
     @Override
     public void fill(int value) {
+        ensureOwned();
         if (value == 0) {
             Arrays.fill(values, 0);
             this.count = 0;
             return;
         }
         value = getPaletteIndex(value);
-        final int bitsPerEntry = this.bitsPerEntry;
-        final int valuesPerLong = 64 / bitsPerEntry;
-        final long[] values = this.values;
-        long block = 0;
-        for (int i = 0; i < valuesPerLong; i++)
-            block |= (long) value << i * bitsPerEntry;
-        Arrays.fill(values, block);
+        Arrays.fill(values, repeat(value, bitsPerEntry));
         this.count = maxSize();
     }
 
+    @Override
+    public void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        ensureOwned();
+        final int paletteIndex = value != 0 ? getPaletteIndex(value) : 0;
+        final int dimension = dimension();
+        // Rows are merged into a single run when the region spans their whole axis
+        int length = maxX - minX;
+        int rows = maxZ - minZ;
+        int layers = maxY - minY;
+        if (length == dimension) {
+            length *= rows;
+            rows = 1;
+            if (length == dimension * dimension) {
+                length *= layers;
+                layers = 1;
+            }
+        }
+        final long pattern = repeat(paletteIndex, bitsPerEntry);
+        for (int y = minY; y < minY + layers; y++) {
+            for (int z = minZ; z < minZ + rows; z++) {
+                fillRun(getSectionIndex(dimension, minX, y, z), length, paletteIndex, pattern);
+            }
+        }
+    }
+
     @Override
     public void setAll(@NotNull EntrySupplier supplier) {
         int[] cache = WRITE_CACHE.get();
         final int dimension = dimension();
         // Fill cache with values
         int fillValue = -1;
-        int count = 0;
         int index = 0;
         for (int y = 0; y < dimension; y++) {
             for (int z = 0; z < dimension; z++) {
                 for (int x = 0; x < dimension; x++) {
-                    int value = supplier.get(x, y, z);
+                    final int value = supplier.get(x, y, z);
                     // Support for fill fast exit if the supplier returns a constant value
                     if (fillValue != -2) {
                         if (fillValue == -1) {
@@ -129,11 +153,6 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
                             fillValue = -2;
                         }
                     }
-                    // Set value in cache
-                    if (value != 0) {
-                        value = getPaletteIndex(value);
-                        count++;
-                    }
                     cache[index++] = value;
                 }
             }
@@ -142,7 +161,6 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         // Update palette content
         if (fillValue < 0) {
             updateAll(cache);
-            this.count = count;
         } else {
             fill(fillValue);
         }
@@ -158,19 +176,98 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     @Override
     public void replaceAll(@NotNull EntryFunction function) {
         int[] cache = WRITE_CACHE.get();
-        AtomicInteger arrayIndex = new AtomicInteger();
-        AtomicInteger count = new AtomicInteger();
-        getAll((x, y, z, value) -> {
-            final int newValue = function.apply(x, y, z, value);
-            final int index = arrayIndex.getPlain();
-            arrayIndex.setPlain(index + 1);
-            cache[index] = newValue != value ? getPaletteIndex(newValue) : value;
-            if (newValue != 0) count.setPlain(count.getPlain() + 1);
-        });
-        assert arrayIndex.getPlain() == maxSize();
+        copyTo(cache);
+        final int dimension = dimension();
+        int index = 0;
+        for (int y = 0; y < dimension; y++) {
+            for (int z = 0; z < dimension; z++) {
+                for (int x = 0; x < dimension; x++) {
+                    cache[index] = function.apply(x, y, z, cache[index]);
+                    index++;
+                }
+            }
+        }
+        assert index == maxSize();
         // Update palette content
         updateAll(cache);
-        this.count = count.getPlain();
+    }
+
+    @Override
+    public void copyTo(int @NotNull [] values) {
+        final int size = maxSize();
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int magicMask = (1 << bitsPerEntry) - 1;
+        final int[] ids = hasPalette() ? paletteToValueList.elements() : null;
+        int index = 0;
+        for (long block : this.values) {
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            for (; index < endIndex; index++) {
+                final int paletteIndex = (int) block & magicMask;
+                values[index] = ids != null ? ids[paletteIndex] : paletteIndex;
+                block >>>= bitsPerEntry;
+            }
+        }
+    }
+
+    @Override
+    public void copyTo(short @NotNull [] values) {
+        int[] cache = WRITE_CACHE.get();
+        copyTo(cache);
+        final int size = maxSize();
+        for (int i = 0; i < size; i++) values[i] = (short) cache[i];
+    }
+
+    @Override
+    public void copyFrom(int @NotNull [] values) {
+        int[] cache = WRITE_CACHE.get();
+        System.arraycopy(values, 0, cache, 0, maxSize());
+        updateAll(cache);
+    }
+
+    @Override
+    public void copyFrom(short @NotNull [] values) {
+        int[] cache = WRITE_CACHE.get();
+        final int size = maxSize();
+        for (int i = 0; i < size; i++) cache[i] = Short.toUnsignedInt(values[i]);
+        updateAll(cache);
+    }
+
+    @Override
+    public void replaceValues(@NotNull Int2IntMap replacements) {
+        if (replacements.isEmpty()) return;
+        ensureOwned();
+        if (hasPalette()) {
+            // Replace the palette entries, the stored indexes are then remapped without looking up their value
+            final int paletteSize = paletteToValueList.size();
+            final int[] remap = new int[paletteSize];
+            boolean changed = false;
+            for (int i = 0; i < paletteSize && hasPalette(); i++) {
+                final int value = paletteToValueList.getInt(i);
+                final int newValue = replacements.getOrDefault(value, value);
+                remap[i] = newValue != value ? getPaletteIndex(newValue) : i;
+                changed |= remap[i] != i;
+            }
+            if (hasPalette()) {
+                if (changed) remapAll(remap);
+                return;
+            }
+        }
+        // Values are stored directly
+        int[] cache = WRITE_CACHE.get();
+        copyTo(cache);
+        final int size = maxSize();
+        int lastValue = cache[0];
+        int lastReplacement = replacements.getOrDefault(lastValue, lastValue);
+        for (int i = 0; i < size; i++) {
+            final int value = cache[i];
+            if (value != lastValue) {
+                lastValue = value;
+                lastReplacement = replacements.getOrDefault(value, value);
+            }
+            cache[i] = lastReplacement;
+        }
+        updateAll(cache);
     }
 
     @Override
@@ -178,6 +275,27 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         return count;
     }
 
+    @Override
+    public int count(int value) {
+        if (value == 0) return maxSize() - count;
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int paletteIndex = hasPalette() ? valueToPaletteMap.get(value) : value;
+        if (paletteIndex <= 0 || paletteIndex >= 1 << bitsPerEntry) return 0;
+        // Entries equal to the value are the ones cleared by the xor
+        final int size = maxSize();
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long pattern = repeat(paletteIndex, bitsPerEntry);
+        final long lowBits = repeat(1, bitsPerEntry);
+        final long[] values = this.values;
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            final int entries = Math.min(valuesPerLong, size - i * valuesPerLong);
+            final long mask = lowBits & entriesMask(0, entries, bitsPerEntry);
+            count += entries - Long.bitCount(nonZeroEntries(values[i] ^ pattern, bitsPerEntry) & mask);
+        }
+        return count;
+    }
+
     @Override
     public int bitsPerEntry() {
         return bitsPerEntry;
@@ -197,10 +315,9 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     public @NotNull SpecializedPalette clone() {
         try {
             FlexiblePalette palette = (FlexiblePalette) super.clone();
-            palette.values = values != null ? values.clone() : null;
-            palette.paletteToValueList = paletteToValueList.clone();
-            palette.valueToPaletteMap = valueToPaletteMap.clone();
-            palette.count = count;
+            // Storage is copied lazily by the first palette to be modified
+            this.shared = true;
+            palette.shared = true;
             return palette;
         } catch (CloneNotSupportedException e) {
             MinecraftServer.getExceptionManager().handleException(e);
@@ -247,26 +364,96 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         }
     }
 
-    private void updateAll(int[] paletteValues) {
+    /**
+     * Replaces the content of this palette.
+     *
+     * @param values the new values, overwritten with their palette index
+     */
+    private void updateAll(int[] values) {
+        ensureOwned();
         final int size = maxSize();
-        assert paletteValues.length >= size;
+        assert values.length >= size;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (values[i] != 0) count++;
+        }
+        if (hasPalette()) {
+            int lastValue = 0;
+            int lastIndex = 0;
+            for (int i = 0; i < size; i++) {
+                final int value = values[i];
+                if (value != lastValue) {
+                    lastValue = value;
+                    lastIndex = getPaletteIndex(value);
+                    if (!hasPalette()) {
+                        // Resized past the maximum palette size, entries must store their value
+                        for (int j = 0; j < i; j++) values[j] = paletteToValueList.getInt(values[j]);
+                        break;
+                    }
+                }
+                values[i] = lastIndex;
+            }
+        }
+        // Words are entirely rewritten
         final int bitsPerEntry = this.bitsPerEntry;
         final int valuesPerLong = 64 / bitsPerEntry;
-        final long clear = (1L << bitsPerEntry) - 1L;
+        final long[] blocks = this.values;
+        int index = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            long block = 0;
+            for (int bitIndex = 0; index < endIndex; index++, bitIndex += bitsPerEntry) {
+                block |= (long) values[index] << bitIndex;
+            }
+            blocks[i] = block;
+        }
+        this.count = count;
+    }
+
+    private void remapAll(int[] remap) {
+        final int size = maxSize();
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final int magicMask = (1 << bitsPerEntry) - 1;
         final long[] values = this.values;
+        int count = 0;
+        int index = 0;
         for (int i = 0; i < values.length; i++) {
-            long block = values[i];
-            final int startIndex = i * valuesPerLong;
-            final int endIndex = Math.min(startIndex + valuesPerLong, size);
-            for (int index = startIndex; index < endIndex; index++) {
-                final int bitIndex = (index - startIndex) * bitsPerEntry;
-                block = block & ~(clear << bitIndex) | ((long) paletteValues[index] << bitIndex);
+            final long block = values[i];
+            final int endIndex = Math.min(index + valuesPerLong, size);
+            long newBlock = 0;
+            for (int bitIndex = 0; index < endIndex; index++, bitIndex += bitsPerEntry) {
+                final int paletteIndex = remap[(int) (block >>> bitIndex) & magicMask];
+                if (paletteIndex != 0) count++;
+                newBlock |= (long) paletteIndex << bitIndex;
             }
-            values[i] = block;
+            values[i] = newBlock;
+        }
+        this.count = count;
+    }
+
+    private void fillRun(int start, int length, int paletteIndex, long pattern) {
+        final int bitsPerEntry = this.bitsPerEntry;
+        final int valuesPerLong = 64 / bitsPerEntry;
+        final long lowBits = repeat(1, bitsPerEntry);
+        final long[] values = this.values;
+        final int end = start + length;
+        int index = start;
+        while (index < end) {
+            final int i = index / valuesPerLong;
+            final int first = index - i * valuesPerLong;
+            final int last = Math.min(valuesPerLong, first + end - index);
+            final long mask = entriesMask(first, last, bitsPerEntry);
+            final long block = values[i];
+            this.count -= Long.bitCount(nonZeroEntries(block, bitsPerEntry) & lowBits & mask);
+            if (paletteIndex != 0) this.count += last - first;
+            values[i] = block & ~mask | pattern & mask;
+            index += last - first;
         }
     }
 
     void resize(byte newBitsPerEntry) {
+        ensureOwned();
         newBitsPerEntry = newBitsPerEntry > maxBitsPerEntry() ? 15 : newBitsPerEntry;
         FlexiblePalette palette = new FlexiblePalette(adaptivePalette, newBitsPerEntry);
         palette.paletteToValueList = paletteToValueList;
@@ -293,6 +480,14 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
         return lastPaletteIndex;
     }
 
+    private void ensureOwned() {
+        if (!shared) return;
+        this.values = values.clone();
+        this.paletteToValueList = paletteToValueList.clone();
+        this.valueToPaletteMap = valueToPaletteMap.clone();
+        this.shared = false;
+    }
+
     boolean hasPalette() {
         return bitsPerEntry <= maxBitsPerEntry();
     }
@@ -308,4 +503,34 @@ final class FlexiblePalette implements SpecializedPalette, Cloneable {
     static int maxPaletteSize(int bitsPerEntry) {
         return 1 << bitsPerEntry;
     }
+
+    /**
+     * Returns a word with all its entries set to a value.
+     */
+    static long repeat(int value, int bitsPerEntry) {
+        final int valuesPerLong = 64 / bitsPerEntry;
+        long block = 0;
+        for (int i = 0; i < valuesPerLong; i++)
+            block |= (long) value << i * bitsPerEntry;
+        return block;
+    }
+
+    /**
+     * Returns the bits of the entries from {@code first} inclusive to {@code last} exclusive.
+     */
+    static long entriesMask(int first, int last, int bitsPerEntry) {
+        final int bits = (last - first) * bitsPerEntry;
+        final long mask = bits == 64 ? -1L : (1L << bits) - 1L;
+        return mask << first * bitsPerEntry;
+    }
+
+    /**
+     * Returns a word whose lowest bit of each entry is set if the entry is not 0,
+     * other bits are undefined.
+     */
+    static long nonZeroEntries(long block, int bitsPerEntry) {
+        long result = block;
+        for (int i = 1; i < bitsPerEntry; i++) result |= block >>> i;
+        return result;
+    }
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import net.minestom.server.network.NetworkBuffer;
 import org.jetbrains.annotations.NotNull;
 
@@ -9,6 +10,8 @@ import java.util.function.IntUnaryOperator;
  * Represents a palette used to store blocks and biomes.
  * <p>
  * 0 is the default value.
+ * <p>
+ * Bulk operations on arrays use the index {@code x + z * dimension + y * dimension * dimension}.
  */
 public interface Palette extends NetworkBuffer.Writer {
     static Palette blocks() {
@@ -39,6 +42,92 @@ public interface Palette extends NetworkBuffer.Writer {
 
     void replaceAll(@NotNull EntryFunction function);
 
+    /**
+     * Copies all the values of this palette to an array.
+     *
+     * @param values the array to copy to, must contain at least {@link #maxSize()} values
+     */
+    default void copyTo(int @NotNull [] values) {
+        validateLength(values.length);
+        final int dimension = dimension();
+        getAll((x, y, z, value) -> values[x + z * dimension + y * dimension * dimension] = value);
+    }
+
+    /**
+     * Copies all the values of this palette to an array, values must fit in an unsigned short.
+     *
+     * @param values the array to copy to, must contain at least {@link #maxSize()} values
+     */
+    default void copyTo(short @NotNull [] values) {
+        validateLength(values.length);
+        final int dimension = dimension();
+        getAll((x, y, z, value) -> values[x + z * dimension + y * dimension * dimension] = (short) value);
+    }
+
+    /**
+     * Sets all the values of this palette from an array.
+     *
+     * @param values the array to copy from, must contain at least {@link #maxSize()} values
+     */
+    default void copyFrom(int @NotNull [] values) {
+        validateLength(values.length);
+        final int dimension = dimension();
+        setAll((x, y, z) -> values[x + z * dimension + y * dimension * dimension]);
+    }
+
+    /**
+     * Sets all the values of this palette from an array, values are read as unsigned shorts.
+     *
+     * @param values the array to copy from, must contain at least {@link #maxSize()} values
+     */
+    default void copyFrom(short @NotNull [] values) {
+        validateLength(values.length);
+        final int dimension = dimension();
+        setAll((x, y, z) -> Short.toUnsignedInt(values[x + z * dimension + y * dimension * dimension]));
+    }
+
+    /**
+     * Fills a region of this palette.
+     *
+     * @param minX  the minimum x, inclusive
+     * @param minY  the minimum y, inclusive
+     * @param minZ  the minimum z, inclusive
+     * @param maxX  the maximum x, exclusive
+     * @param maxY  the maximum y, exclusive
+     * @param maxZ  the maximum z, exclusive
+     * @param value the value to fill the region with
+     */
+    default void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+        final int dimension = dimension();
+        if (minX < 0 || minY < 0 || minZ < 0 || maxX > dimension || maxY > dimension || maxZ > dimension) {
+            throw new IllegalArgumentException("Region must be inside the palette");
+        }
+        if (minX >= maxX || minY >= maxY || minZ >= maxZ) return;
+        replaceAll((x, y, z, current) -> x >= minX && x < maxX && y >= minY && y < maxY && z >= minZ && z < maxZ ?
+                value : current);
+    }
+
+    /**
+     * Replaces the values present in the map, other values are kept.
+     *
+     * @param replacements the new value of each replaced value
+     */
+    default void replaceValues(@NotNull Int2IntMap replacements) {
+        if (replacements.isEmpty()) return;
+        replaceAll((x, y, z, value) -> replacements.getOrDefault(value, value));
+    }
+
+    /**
+     * Returns the number of entries with the given value.
+     */
+    default int count(int value) {
+        int[] count = new int[1];
+        getAll((x, y, z, entry) -> {
+            if (entry == value) count[0]++;
+        });
+        return count[0];
+    }
+
     /**
      * Returns the number of entries in this palette.
      */
@@ -63,6 +152,11 @@ public interface Palette extends NetworkBuffer.Writer {
 
     @NotNull Palette clone();
 
+    private void validateLength(int length) {
+        if (length < maxSize())
+            throw new IllegalArgumentException("Array must contain at least " + maxSize() + " values");
+    }
+
     @FunctionalInterface
     interface EntrySupplier {
         int get(int x, int y, int z);
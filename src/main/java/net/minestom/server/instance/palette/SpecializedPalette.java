@@ -1,5 +1,6 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.function.IntUnaryOperator;
@@ -43,5 +44,25 @@ interface SpecializedPalette extends Palette {
         default void replaceAll(@NotNull EntryFunction function) {
             throw new UnsupportedOperationException();
         }
+
+        @Override
+        default void copyFrom(int @NotNull [] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void copyFrom(short @NotNull [] values) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void fill(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, int value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        default void replaceValues(@NotNull Int2IntMap replacements) {
+            throw new UnsupportedOperationException();
+        }
     }
 }
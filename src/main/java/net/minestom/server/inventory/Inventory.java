@@ -1,6 +1,7 @@
 package net.minestom.server.inventory;
 
 import net.kyori.adventure.text.Component;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
 import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.click.ClickType;
@@ -10,13 +11,17 @@ import net.minestom.server.network.packet.server.play.OpenWindowPacket;
 import net.minestom.server.network.packet.server.play.SetSlotPacket;
 import net.minestom.server.network.packet.server.play.WindowItemsPacket;
 import net.minestom.server.network.packet.server.play.WindowPropertyPacket;
+import net.minestom.server.timer.Scheduler;
 import net.minestom.server.utils.inventory.PlayerInventoryUtils;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -27,6 +32,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public non-sealed class Inventory extends AbstractInventory implements Viewable {
     private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+    private static final boolean DELTA_SYNC = ServerFlag.INVENTORY_DELTA_SYNC;
+    private static final int DELTA_THRESHOLD = ServerFlag.INVENTORY_DELTA_THRESHOLD;
 
     // the id of this inventory
     private final byte id;
@@ -41,6 +48,11 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     private final Set<Player> viewers = new CopyOnWriteArraySet<>();
     private final Set<Player> unmodifiableViewers = Collections.unmodifiableSet(viewers);
 
+    private volatile boolean deltaSync = DELTA_SYNC;
+    // the items last sent to each viewer, only tracked in delta mode
+    private final Map<Player, ItemStack[]> sentItems = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
     public Inventory(@NotNull InventoryType inventoryType, @NotNull Component title) {
         super(inventoryType.getSize());
         this.id = generateId();
@@ -85,7 +97,8 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
         this.title = title;
         // Re-open the inventory
         sendPacketToViewers(new OpenWindowPacket(getWindowId(), getInventoryType().getWindowType(), title));
-        // Send inventory items
+        // Send inventory items, the reopened window is empty client-side
+        this.sentItems.clear();
         update();
     }
 
@@ -100,11 +113,48 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
         return id;
     }
 
+    /**
+     * Gets if slot changes are batched and sent as deltas at the end of the tick.
+     *
+     * @return true if delta synchronization is enabled
+     * @see #setDeltaSync(boolean)
+     */
+    public boolean isDeltaSync() {
+        return deltaSync;
+    }
+
+    /**
+     * Changes how slot changes are sent to the viewers.
+     * <p>
+     * When enabled, changes are accumulated and sent once at the end of the tick, only the slots
+     * differing from what each viewer last received are sent. A full refresh is sent instead
+     * when too many slots changed, see {@link ServerFlag#INVENTORY_DELTA_THRESHOLD}.
+     * <p>
+     * Defaults to {@link ServerFlag#INVENTORY_DELTA_SYNC}.
+     *
+     * @param deltaSync true to enable delta synchronization
+     */
+    public synchronized void setDeltaSync(boolean deltaSync) {
+        if (this.deltaSync == deltaSync) return;
+        if (!deltaSync) {
+            // Send pending changes, the viewers now receive them directly
+            flushUpdates();
+            this.sentItems.clear();
+        }
+        this.deltaSync = deltaSync;
+    }
+
     /**
      * Refreshes the inventory for all viewers.
+     * <p>
+     * In delta mode, the refresh is delayed to the end of the tick and only contains the changed slots.
      */
     @Override
     public void update() {
+        if (deltaSync) {
+            scheduleFlush();
+            return;
+        }
         this.viewers.forEach(p -> p.sendPacket(createNewWindowItemsPacket(p)));
     }
 
@@ -115,9 +165,10 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
      *
      * @param player the player to update the inventory
      */
-    public void update(@NotNull Player player) {
+    public synchronized void update(@NotNull Player player) {
         if (!isViewer(player)) return;
         player.sendPacket(createNewWindowItemsPacket(player));
+        if (deltaSync) sentItems.put(player, itemStacks.clone());
     }
 
     @Override
@@ -147,6 +198,7 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     public boolean removeViewer(@NotNull Player player) {
         final boolean result = this.viewers.remove(player);
+        this.sentItems.remove(player);
         this.clickProcessor.clearCache(player);
         return result;
     }
@@ -154,7 +206,61 @@ public non-sealed class Inventory extends AbstractInventory implements Viewable
     @Override
     protected void UNSAFE_itemInsert(int slot, @NotNull ItemStack itemStack, boolean sendPacket) {
         itemStacks[slot] = itemStack;
-        if (sendPacket) sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        if (!sendPacket) return;
+        if (deltaSync) {
+            scheduleFlush();
+        } else {
+            sendPacketToViewers(new SetSlotPacket(getWindowId(), 0, (short) slot, itemStack));
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) Scheduler.scheduleEndOfTick(this::flushUpdates);
+    }
+
+    /**
+     * Sends the slots changed since the last update to each viewer.
+     * <p>
+     * Slot packets are shared between viewers, a full refresh is sent to viewers
+     * with no known state or with more changed slots than the threshold.
+     */
+    private synchronized void flushUpdates() {
+        this.flushScheduled.set(false);
+        if (!deltaSync || viewers.isEmpty()) return;
+        final ItemStack[] items = this.itemStacks;
+        final int threshold = DELTA_THRESHOLD > 0 ? DELTA_THRESHOLD : items.length / 2;
+        final int[] changes = new int[items.length];
+        SetSlotPacket[] packets = null;
+        for (Player viewer : viewers) {
+            final ItemStack[] sent = sentItems.get(viewer);
+            if (sent == null) {
+                update(viewer);
+                continue;
+            }
+            int changeCount = 0;
+            for (int i = 0; i < items.length; i++) {
+                final ItemStack item = items[i];
+                final ItemStack previous = sent[i];
+                if (previous == item) continue;
+                sent[i] = item; // Next comparisons are by reference
+                if (!previous.equals(item)) changes[changeCount++] = i;
+            }
+            if (changeCount == 0) continue;
+            if (changeCount > threshold) {
+                viewer.sendPacket(createNewWindowItemsPacket(viewer));
+                continue;
+            }
+            if (packets == null) packets = new SetSlotPacket[items.length];
+            for (int i = 0; i < changeCount; i++) {
+                final int slot = changes[i];
+                SetSlotPacket packet = packets[slot];
+                if (packet == null) {
+                    packet = new SetSlotPacket(getWindowId(), 0, (short) slot, items[slot]);
+                    packets[slot] = packet;
+                }
+                viewer.sendPacket(packet);
+            }
+        }
     }
 
     private @NotNull WindowItemsPacket createNewWindowItemsPacket(Player player) {
@@ -0,0 +1,46 @@
+package net.minestom.server.item;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerProcess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encoded form of the items with components, weighted by their size.
+ * <p>
+ * Items are compared by identity, the cache is only worth it when items are interned
+ * as other instances are rarely written more than once.
+ */
+final class ItemNetworkCache {
+    private final Cache<ItemStackImpl, EncodedItem> cache;
+
+    ItemNetworkCache(long maximumWeight) {
+        this.cache = Caffeine.newBuilder().weakKeys()
+                .maximumWeight(maximumWeight)
+                .weigher((ItemStackImpl item, EncodedItem encoded) -> encoded.bytes().length)
+                .build();
+    }
+
+    /**
+     * Gets the network encoding of an item, encoding it if absent.
+     *
+     * @param itemStack the item to encode
+     * @return the encoded item, null if the item has no component
+     */
+    byte @Nullable [] get(@NotNull ItemStackImpl itemStack) {
+        if (itemStack.components().isEmpty()) return null; // Nothing worth caching
+        final ServerProcess process = MinecraftServer.process();
+        EncodedItem encoded = cache.getIfPresent(itemStack);
+        if (encoded == null || encoded.process() != process) {
+            // Component encoding may depend on the process registries
+            encoded = new EncodedItem(process, ItemStackImpl.encode(itemStack));
+            cache.put(itemStack, encoded);
+        }
+        return encoded.bytes();
+    }
+
+    private record EncodedItem(ServerProcess process, byte[] bytes) {
+    }
+}
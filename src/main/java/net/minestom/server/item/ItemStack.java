@@ -44,9 +44,7 @@ public sealed interface ItemStack extends TagReadable, DataComponent.Holder, Hov
                 return;
             }
 
-            buffer.write(NetworkBuffer.VAR_INT, value.amount());
-            buffer.write(NetworkBuffer.VAR_INT, value.material().id());
-            buffer.write(ItemComponent.PATCH_NETWORK_TYPE, ((ItemStackImpl) value).components());
+            ItemStackImpl.writeNetwork(buffer, (ItemStackImpl) value);
         }
 
         @Override
@@ -236,6 +234,17 @@ public sealed interface ItemStack extends TagReadable, DataComponent.Holder, Hov
     @Contract(pure = true)
     boolean isSimilar(@NotNull ItemStack itemStack);
 
+    /**
+     * Gets the canonical item stack equal to this one.
+     * <p>
+     * Interned items share their memory and can be compared by reference with other interned items.
+     * Items are interned on creation if {@code minestom.item.interning} is enabled.
+     *
+     * @return the interned item stack
+     */
+    @Contract(pure = true)
+    @NotNull ItemStack intern();
+
     /**
      * Converts this itemstack back into a builder (starting from the current state).
      * @return this itemstack, as a builder.
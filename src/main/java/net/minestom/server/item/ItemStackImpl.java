@@ -2,11 +2,15 @@ package net.minestom.server.item;
 
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.component.DataComponent;
 import net.minestom.server.component.DataComponentMap;
 import net.minestom.server.item.component.*;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.tag.Tag;
+import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.Unit;
+import net.minestom.server.utils.collection.WeakInterner;
 import net.minestom.server.utils.nbt.BinaryTagSerializer;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Contract;
@@ -17,10 +21,17 @@ import java.util.List;
 import java.util.function.Consumer;
 
 record ItemStackImpl(Material material, int amount, DataComponentMap components) implements ItemStack {
+    private static final boolean INTERNING = ServerFlag.ITEM_INTERNING;
+    private static final WeakInterner<ItemStack> INTERNER = new WeakInterner<>();
+
+    // Identity based, only hit when the same instances are written again
+    private static final ItemNetworkCache NETWORK_CACHE = INTERNING && ServerFlag.ITEM_NETWORK_CACHE_SIZE > 0 ?
+            new ItemNetworkCache(ServerFlag.ITEM_NETWORK_CACHE_SIZE) : null;
 
     static ItemStack create(Material material, int amount, DataComponentMap components) {
         if (amount <= 0) return AIR;
-        return new ItemStackImpl(material, amount, components);
+        final ItemStackImpl itemStack = new ItemStackImpl(material, amount, components);
+        return INTERNING ? INTERNER.intern(itemStack) : itemStack;
     }
 
     static ItemStack create(Material material, int amount) {
@@ -40,6 +51,7 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         // their different patches.
         // It is worth noting that the client would handle both cases perfectly fine.
         components = DataComponentMap.diff(material.prototype(), components);
+        if (INTERNING) components = components.intern();
     }
 
     @Override
@@ -61,7 +73,7 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
 
     @Override
     public @NotNull ItemStack withMaterial(@NotNull Material material) {
-        return new ItemStackImpl(material, amount, components);
+        return create(material, amount, components);
     }
 
     @Override
@@ -72,7 +84,7 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
 
     @Override
     public @NotNull <T> ItemStack with(@NotNull DataComponent<T> component, @NotNull T value) {
-        return new ItemStackImpl(material, amount, components.set(component, value));
+        return create(material, amount, components.set(component, value));
     }
 
     @Override
@@ -80,7 +92,7 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         // We can be slightly smart here. If the component is not present, this will always be a noop.
         // No need to make a new patch with the removal only for it to be removed again when doing a diff.
         if (get(component) == null) return this;
-        return new ItemStackImpl(material, amount, components.remove(component));
+        return create(material, amount, components.remove(component));
     }
 
     @Override
@@ -93,6 +105,13 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         return material == itemStack.material() && components.equals(((ItemStackImpl) itemStack).components);
     }
 
+    @Override
+    public @NotNull ItemStack intern() {
+        final DataComponentMap components = this.components.intern();
+        final ItemStack itemStack = components == this.components ? this : new ItemStackImpl(material, amount, components);
+        return INTERNER.intern(itemStack);
+    }
+
     @Override
     public @NotNull CompoundBinaryTag toItemNBT() {
         return (CompoundBinaryTag) NBT_TYPE.write(this);
@@ -104,6 +123,32 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
         return new Builder(material, amount, components.toPatchBuilder());
     }
 
+    static void writeNetwork(@NotNull NetworkBuffer buffer, @NotNull ItemStackImpl itemStack) {
+        final ItemNetworkCache cache = NETWORK_CACHE;
+        final byte[] encoded = cache != null ? cache.get(itemStack) : null;
+        if (encoded == null) {
+            writeNetwork0(buffer, itemStack);
+            return;
+        }
+        buffer.write(NetworkBuffer.RAW_BYTES, encoded);
+    }
+
+    private static void writeNetwork0(@NotNull NetworkBuffer buffer, @NotNull ItemStackImpl itemStack) {
+        buffer.write(NetworkBuffer.VAR_INT, itemStack.amount);
+        buffer.write(NetworkBuffer.VAR_INT, itemStack.material.id());
+        buffer.write(ItemComponent.PATCH_NETWORK_TYPE, itemStack.components);
+    }
+
+    static byte[] encode(@NotNull ItemStackImpl itemStack) {
+        try (var hold = ObjectPool.PACKET_POOL.hold()) {
+            NetworkBuffer buffer = new NetworkBuffer(hold.get(), false);
+            writeNetwork0(buffer, itemStack);
+            byte[] bytes = new byte[buffer.writeIndex()];
+            buffer.copyTo(0, bytes, 0, bytes.length);
+            return bytes;
+        }
+    }
+
     static @NotNull ItemStack fromCompound(@NotNull CompoundBinaryTag tag) {
         String id = tag.getString("id");
         Material material = Material.fromNamespaceId(id);
@@ -112,7 +157,7 @@ record ItemStackImpl(Material material, int amount, DataComponentMap components)
 
         BinaryTagSerializer.Context context = new BinaryTagSerializer.ContextWithRegistries(MinecraftServer.process(), false);
         DataComponentMap patch = ItemComponent.PATCH_NBT_TYPE.read(context, tag.getCompound("components"));
-        return new ItemStackImpl(material, count, patch);
+        return create(material, count, patch);
     }
 
     static @NotNull CompoundBinaryTag toCompound(@NotNull ItemStack itemStack) {
@@ -24,6 +24,23 @@ public interface LargeFramebuffer {
 
     byte getMapColor(int x, int y);
 
+    /**
+     * Writes the colors of a 128x128 sub view of this framebuffer, pixels outside of this framebuffer are left untouched.
+     *
+     * @param left   the left of the sub view
+     * @param top    the top of the sub view
+     * @param colors the array to write the colors to, indexed with {@link Framebuffer#index(int, int)}
+     */
+    default void toMapColors(int left, int top, byte[] colors) {
+        final int width = Math.min(width(), left + Framebuffer.WIDTH) - left;
+        final int height = Math.min(height(), top + Framebuffer.HEIGHT) - top;
+        for (int y = top; y < top + height; y++) {
+            for (int x = left; x < left + width; x++) {
+                colors[Framebuffer.index(x - left, y - top)] = getMapColor(x, y);
+            }
+        }
+    }
+
     /**
      * Prepares the packet to render a 128x128 sub view of this framebuffer
      */
@@ -31,12 +48,7 @@ public interface LargeFramebuffer {
         byte[] colors = new byte[Framebuffer.WIDTH * Framebuffer.WIDTH];
         final int width = Math.min(width(), left + Framebuffer.WIDTH) - left;
         final int height = Math.min(height(), top + Framebuffer.HEIGHT) - top;
-        for (int y = top; y < top+height; y++) {
-            for (int x = left; x < left+width; x++) {
-                final byte color = getMapColor(x, y);
-                colors[Framebuffer.index(x - left, y - top)] = color;
-            }
-        }
+        toMapColors(left, top, colors);
         return new MapDataPacket(mapId, (byte) 0, false,
                 false, List.of(),
                 new MapDataPacket.ColorContent((byte) width, (byte) height,
@@ -5,6 +5,8 @@ import net.minestom.server.ServerFlag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -74,9 +76,10 @@ public enum MapColors {
     private final int blue;
 
     private static final Logger logger = LoggerFactory.getLogger(MapColors.class);
+    // only used if mappingStrategy == ColorMappingStrategy.APPROXIMATE
     private static final ConcurrentHashMap<Integer, PreciseMapColor> rgbMap = new ConcurrentHashMap<>();
-    // only used if mappingStrategy == ColorMappingStrategy.PRECISE
-    private static volatile PreciseMapColor[] rgbArray = null;
+    // only used if mappingStrategy == ColorMappingStrategy.PRECISE, rgb -> map color index
+    private static volatile byte[] rgbArray = null;
 
     private static final ColorMappingStrategy mappingStrategy;
     private static final int colorReduction;
@@ -177,24 +180,26 @@ public enum MapColors {
         }
     }
 
-    private static void fillRGBArray() {
-        rgbArray = new PreciseMapColor[0xFFFFFF + 1];
-        for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
-            rgbArray[rgb] = mapColor(rgb);
+    private static byte[] rgbArray() {
+        byte[] array = rgbArray;
+        if (array == null) {
+            synchronized (MapColors.class) {
+                array = rgbArray;
+                if (array == null) {
+                    array = new byte[0xFFFFFF + 1];
+                    for (int rgb = 0; rgb <= 0xFFFFFF; rgb++) {
+                        array[rgb] = ColorGrid.closestIndex(rgb);
+                    }
+                    rgbArray = array;
+                }
+            }
         }
+        return array;
     }
 
     public static PreciseMapColor closestColor(int argb) {
-        int noAlpha = argb & 0xFFFFFF;
-        if (mappingStrategy == ColorMappingStrategy.PRECISE) {
-            if (rgbArray == null) {
-                synchronized (MapColors.class) {
-                    if (rgbArray == null) {
-                        fillRGBArray();
-                    }
-                }
-            }
-            return rgbArray[noAlpha];
+        if (mappingStrategy != ColorMappingStrategy.APPROXIMATE) {
+            return ColorGrid.fromIndex(closestColorIndex(argb));
         }
         if (rgbMap.isEmpty()) {
             synchronized (rgbMap) {
@@ -203,10 +208,59 @@ public enum MapColors {
                 }
             }
         }
-        if (mappingStrategy == ColorMappingStrategy.APPROXIMATE) {
-            noAlpha = reduceColor(noAlpha);
+        return rgbMap.computeIfAbsent(reduceColor(argb & 0xFFFFFF),
+                rgb -> ColorGrid.fromIndex(ColorGrid.closestIndex(rgb)));
+    }
+
+    /**
+     * Gets the index of the closest map color, same as {@code closestColor(argb).getIndex()}.
+     *
+     * @param argb the color, alpha is ignored
+     * @return the map color index
+     */
+    public static byte closestColorIndex(int argb) {
+        final int rgb = argb & 0xFFFFFF;
+        return switch (mappingStrategy) {
+            case PRECISE -> rgbArray()[rgb];
+            case LAZY -> ColorGrid.closestIndex(rgb);
+            case APPROXIMATE -> closestColor(rgb).getIndex();
+        };
+    }
+
+    /**
+     * Converts colors to map color indexes.
+     *
+     * @param argb   the colors to convert, alpha is ignored
+     * @param colors the array to write the map color indexes to
+     * @see #toMapColors(int[], int, byte[], int, int)
+     */
+    public static void toMapColors(int[] argb, byte[] colors) {
+        toMapColors(argb, 0, colors, 0, argb.length);
+    }
+
+    /**
+     * Converts colors to map color indexes, consecutive identical colors are only looked up once.
+     *
+     * @param argb         the colors to convert, alpha is ignored
+     * @param argbOffset   the index of the first color to convert
+     * @param colors       the array to write the map color indexes to
+     * @param colorsOffset the index of the first map color to write
+     * @param length       the number of colors to convert
+     */
+    public static void toMapColors(int[] argb, int argbOffset, byte[] colors, int colorsOffset, int length) {
+        Objects.checkFromIndexSize(argbOffset, length, argb.length);
+        Objects.checkFromIndexSize(colorsOffset, length, colors.length);
+        final byte[] lookup = mappingStrategy == ColorMappingStrategy.PRECISE ? rgbArray() : null;
+        int lastRgb = -1;
+        byte lastColor = 0;
+        for (int i = 0; i < length; i++) {
+            final int rgb = argb[argbOffset + i] & 0xFFFFFF;
+            if (rgb != lastRgb) {
+                lastRgb = rgb;
+                lastColor = lookup != null ? lookup[rgb] : closestColorIndex(rgb);
+            }
+            colors[colorsOffset + i] = lastColor;
         }
-        return rgbMap.computeIfAbsent(noAlpha, MapColors::mapColor);
     }
 
     private static int reduceColor(int rgb) {
@@ -220,33 +274,103 @@ public enum MapColors {
         return (red << 16) | (green << 8) | blue;
     }
 
-    private static PreciseMapColor mapColor(int rgb) {
-        PreciseMapColor closest = null;
-        int closestDistance = Integer.MAX_VALUE;
-        for (MapColors base : values()) {
-            if (base == NONE)
-                continue;
-            for (Multiplier m : Multiplier.values()) {
-                final int rgbKey = PreciseMapColor.toRGB(base, m);
-                final int redKey = (rgbKey >> 16) & 0xFF;
-                final int greenKey = (rgbKey >> 8) & 0xFF;
-                final int blueKey = rgbKey & 0xFF;
-
-                final int red = (rgb >> 16) & 0xFF;
-                final int green = (rgb >> 8) & 0xFF;
-                final int blue = rgb & 0xFF;
-
-                final int dr = redKey - red;
-                final int dg = greenKey - green;
-                final int db = blueKey - blue;
+    /**
+     * Exact closest color lookup. The RGB cube is split into cells, each holding the few colors
+     * which can be the closest to one of its points.
+     */
+    private static final class ColorGrid {
+        private static final int CELL_BITS = 3;
+        private static final int AXIS_BITS = 8 - CELL_BITS;
+        private static final int CELL_SIZE = 1 << CELL_BITS;
+
+        // Map colors in lookup order, the first one wins ties
+        private static final int[] RGB;
+        private static final byte[] INDEXES;
+        private static final PreciseMapColor[] BY_INDEX = new PreciseMapColor[256];
+        // Candidates of a cell are stored from CANDIDATES[OFFSETS[cell]] to CANDIDATES[OFFSETS[cell + 1]]
+        private static final int[] OFFSETS;
+        private static final byte[] CANDIDATES;
+
+        static {
+            final Multiplier[] multipliers = Multiplier.values();
+            final int count = (values().length - 1) * multipliers.length;
+            RGB = new int[count];
+            INDEXES = new byte[count];
+            int colorIndex = 0;
+            for (MapColors base : values()) {
+                if (base == NONE)
+                    continue;
+                for (Multiplier m : multipliers) {
+                    final PreciseMapColor color = new PreciseMapColor(base, m);
+                    RGB[colorIndex] = color.toRGB();
+                    INDEXES[colorIndex] = color.getIndex();
+                    BY_INDEX[color.getIndex() & 0xFF] = color;
+                    colorIndex++;
+                }
+            }
+
+            final int cellCount = 1 << (AXIS_BITS * 3);
+            int[] offsets = new int[cellCount + 1];
+            byte[] candidates = new byte[cellCount * 8];
+            int size = 0;
+            for (int cell = 0; cell < cellCount; cell++) {
+                final int red = (cell >> (AXIS_BITS << 1)) << CELL_BITS;
+                final int green = (cell >> AXIS_BITS & ((1 << AXIS_BITS) - 1)) << CELL_BITS;
+                final int blue = (cell & ((1 << AXIS_BITS) - 1)) << CELL_BITS;
+                // Closest color of any point in the cell is at most as far as the smallest farthest distance
+                int threshold = Integer.MAX_VALUE;
+                for (int rgb : RGB) {
+                    final int distance = farthest(rgb >> 16 & 0xFF, red) + farthest(rgb >> 8 & 0xFF, green) + farthest(rgb & 0xFF, blue);
+                    threshold = Math.min(threshold, distance);
+                }
+                for (int i = 0; i < count; i++) {
+                    final int rgb = RGB[i];
+                    final int distance = nearest(rgb >> 16 & 0xFF, red) + nearest(rgb >> 8 & 0xFF, green) + nearest(rgb & 0xFF, blue);
+                    if (distance > threshold) continue;
+                    if (size == candidates.length) candidates = Arrays.copyOf(candidates, size * 2);
+                    candidates[size++] = (byte) i;
+                }
+                offsets[cell + 1] = size;
+            }
+            OFFSETS = offsets;
+            CANDIDATES = Arrays.copyOf(candidates, size);
+        }
+
+        static byte closestIndex(int rgb) {
+            final int red = (rgb >> 16) & 0xFF;
+            final int green = (rgb >> 8) & 0xFF;
+            final int blue = rgb & 0xFF;
+            final int cell = (red >> CELL_BITS) << (AXIS_BITS << 1) | (green >> CELL_BITS) << AXIS_BITS | blue >> CELL_BITS;
+            int closest = 0;
+            int closestDistance = Integer.MAX_VALUE;
+            for (int i = OFFSETS[cell]; i < OFFSETS[cell + 1]; i++) {
+                final int color = CANDIDATES[i] & 0xFF;
+                final int rgbKey = RGB[color];
+                final int dr = ((rgbKey >> 16) & 0xFF) - red;
+                final int dg = ((rgbKey >> 8) & 0xFF) - green;
+                final int db = (rgbKey & 0xFF) - blue;
                 final int dist = (dr * dr + dg * dg + db * db);
                 if (dist < closestDistance) {
-                    closest = new PreciseMapColor(base, m);
+                    closest = color;
                     closestDistance = dist;
                 }
             }
+            return INDEXES[closest];
+        }
+
+        static PreciseMapColor fromIndex(byte index) {
+            return BY_INDEX[index & 0xFF];
+        }
+
+        private static int nearest(int value, int cellStart) {
+            final int distance = value < cellStart ? cellStart - value : Math.max(value - (cellStart + CELL_SIZE - 1), 0);
+            return distance * distance;
+        }
+
+        private static int farthest(int value, int cellStart) {
+            final int distance = Math.max(Math.abs(value - cellStart), Math.abs(value - (cellStart + CELL_SIZE - 1)));
+            return distance * distance;
         }
-        return closest;
     }
 
     public static class PreciseMapColor {
@@ -318,13 +442,13 @@ public enum MapColors {
      */
     public enum ColorMappingStrategy {
         /**
-         * If already computed, send the result. Otherwise, compute the closest color in a RGB Map, and add it to the map
+         * Compute the closest color on each call, only comparing the few candidates of a precomputed color grid
          */
         LAZY,
 
         /**
-         * All colors are already in the map after the first call. Heavy hit on the memory:
-         * (2^24) * 4 bytes at the min (~64MB)
+         * All colors are already in a lookup table after the first call. Heavy hit on the memory:
+         * (2^24) bytes (16MB)
          */
         PRECISE,
 
@@ -0,0 +1,130 @@
+package net.minestom.server.map;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.map.framebuffers.LargeGraphics2DFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Renders framebuffers incrementally, only the rectangle containing the pixels modified since the last render
+ * of a map is sent.
+ * <p>
+ * The renderer remembers the colors last rendered for each map id, its packets are therefore meant to be sent
+ * to all the viewers of the maps. Use {@link #invalidate(int)} to get the full content of a map again,
+ * for example when a new player starts viewing it.
+ */
+public final class MapRenderer {
+    private static final int SIZE = Framebuffer.WIDTH * Framebuffer.HEIGHT;
+
+    // Map id -> colors of the last rendered packet
+    private final Int2ObjectMap<byte[]> renderedColors = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Renders a framebuffer to a map.
+     *
+     * @param mapId       the id of the map
+     * @param framebuffer the framebuffer to render
+     * @return the packet updating the modified rectangle, null if nothing changed
+     */
+    public synchronized @Nullable MapDataPacket render(int mapId, @NotNull Framebuffer framebuffer) {
+        return update(mapId, framebuffer.toMapColors(), Framebuffer.WIDTH, Framebuffer.HEIGHT);
+    }
+
+    /**
+     * Renders a large framebuffer split into maps of 128x128 pixels.
+     * <p>
+     * Colors of {@link LargeGraphics2DFramebuffer} are converted in parallel.
+     *
+     * @param framebuffer the framebuffer to render
+     * @param mapIds      the id of each map, row by row starting from the top left corner
+     * @return the packets updating the modified rectangle of each map
+     */
+    public synchronized @NotNull List<@NotNull MapDataPacket> render(@NotNull LargeFramebuffer framebuffer, int @NotNull [] mapIds) {
+        final int columns = Math.ceilDiv(framebuffer.width(), Framebuffer.WIDTH);
+        final int rows = Math.ceilDiv(framebuffer.height(), Framebuffer.HEIGHT);
+        Check.argCondition(mapIds.length != columns * rows,
+                "Expected {0} map ids for a framebuffer of {1}x{2} maps", columns * rows, columns, rows);
+        byte[][] colors = new byte[mapIds.length][];
+        IntStream maps = IntStream.range(0, mapIds.length);
+        if (framebuffer instanceof LargeGraphics2DFramebuffer) maps = maps.parallel();
+        maps.forEach(i -> {
+            byte[] mapColors = new byte[SIZE];
+            framebuffer.toMapColors((i % columns) * Framebuffer.WIDTH, (i / columns) * Framebuffer.HEIGHT, mapColors);
+            colors[i] = mapColors;
+        });
+        List<MapDataPacket> packets = new ArrayList<>();
+        for (int i = 0; i < mapIds.length; i++) {
+            final int left = (i % columns) * Framebuffer.WIDTH;
+            final int top = (i / columns) * Framebuffer.HEIGHT;
+            final int width = Math.min(framebuffer.width() - left, Framebuffer.WIDTH);
+            final int height = Math.min(framebuffer.height() - top, Framebuffer.HEIGHT);
+            final MapDataPacket packet = update(mapIds[i], colors[i], width, height);
+            if (packet != null) packets.add(packet);
+        }
+        return packets;
+    }
+
+    /**
+     * Forgets the colors rendered to a map, its next render sends the whole map.
+     *
+     * @param mapId the id of the map
+     */
+    public synchronized void invalidate(int mapId) {
+        this.renderedColors.remove(mapId);
+    }
+
+    /**
+     * Forgets the colors rendered to all maps.
+     */
+    public synchronized void invalidateAll() {
+        this.renderedColors.clear();
+    }
+
+    private @Nullable MapDataPacket update(int mapId, byte[] colors, int width, int height) {
+        final int stride = Framebuffer.WIDTH;
+        byte[] rendered = renderedColors.get(mapId);
+        int minX = 0, minY = 0, maxX = width - 1, maxY = height - 1;
+        if (rendered == null) {
+            rendered = new byte[SIZE];
+            this.renderedColors.put(mapId, rendered);
+        } else {
+            // Bounding box of the modified pixels
+            minX = width;
+            minY = -1;
+            maxX = -1;
+            for (int y = 0; y < height; y++) {
+                final int rowStart = y * stride;
+                final int first = Arrays.mismatch(rendered, rowStart, rowStart + width, colors, rowStart, rowStart + width);
+                if (first == -1) continue;
+                if (minY == -1) minY = y;
+                maxY = y;
+                minX = Math.min(minX, first);
+                int last = width - 1;
+                while (last > maxX && rendered[rowStart + last] == colors[rowStart + last]) last--;
+                maxX = Math.max(maxX, last);
+            }
+            if (minY == -1) return null;
+        }
+        final int rectWidth = maxX - minX + 1;
+        final int rectHeight = maxY - minY + 1;
+        byte[] data = new byte[rectWidth * rectHeight];
+        for (int y = 0; y < rectHeight; y++) {
+            final int offset = Framebuffer.index(minX, minY + y, stride);
+            System.arraycopy(colors, offset, data, y * rectWidth, rectWidth);
+            System.arraycopy(colors, offset, rendered, offset, rectWidth);
+        }
+        return new MapDataPacket(mapId, (byte) 0, false,
+                false, List.of(),
+                new MapDataPacket.ColorContent((byte) rectWidth, (byte) rectHeight,
+                        (byte) minX, (byte) minY,
+                        data));
+    }
+}
@@ -42,11 +42,7 @@ public class Graphics2DFramebuffer implements Framebuffer {
     @Override
     public byte[] toMapColors() {
         // TODO: update subparts only
-        for (int x = 0; x < 128; x++) {
-            for (int z = 0; z < 128; z++) {
-                colors[Framebuffer.index(x, z)] = MapColors.closestColor(get(x, z)).getIndex();
-            }
-        }
+        MapColors.toMapColors(pixels, colors);
         return colors;
     }
 }
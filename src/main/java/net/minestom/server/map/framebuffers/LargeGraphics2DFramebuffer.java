@@ -62,6 +62,15 @@ public class LargeGraphics2DFramebuffer implements LargeFramebuffer {
 
     @Override
     public byte getMapColor(int x, int y) {
-        return MapColors.closestColor(get(x, y)).getIndex();
+        return MapColors.closestColorIndex(get(x, y));
+    }
+
+    @Override
+    public void toMapColors(int left, int top, byte[] colors) {
+        final int width = Math.min(this.width, left + Framebuffer.WIDTH) - left;
+        final int height = Math.min(this.height, top + Framebuffer.HEIGHT) - top;
+        for (int y = 0; y < height; y++) {
+            MapColors.toMapColors(pixels, left + (top + y) * this.width, colors, Framebuffer.index(0, y), width);
+        }
     }
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.network;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.ClientPacketsHandler;
@@ -16,6 +17,8 @@ import java.nio.ByteBuffer;
  * from the {@link ClientPacketsHandler} classes.
  */
 public class PacketProcessor {
+    private static final boolean DIRECT_DECODING = ServerFlag.DIRECT_PACKET_DECODING;
+
     private final ClientPacketsHandler statusHandler;
     private final ClientPacketsHandler loginHandler;
     private final ClientPacketsHandler configurationHandler;
@@ -45,7 +48,13 @@ public class PacketProcessor {
     }
 
     public ClientPacket process(@NotNull PlayerConnection connection, int packetId, ByteBuffer body) {
-        final ClientPacket packet = create(connection.getConnectionState(), packetId, body);
+        final ConnectionState state = connection.getConnectionState();
+        ClientPacket packet = null;
+        if (DIRECT_DECODING && state == ConnectionState.PLAY) {
+            // Frequent packets are read without intermediary allocation
+            packet = playHandler.createDirect(connection, packetId, body);
+        }
+        if (packet == null) packet = create(state, packetId, body);
         if (packet.processImmediately()) {
             packet.handle(connection);
             return packet;
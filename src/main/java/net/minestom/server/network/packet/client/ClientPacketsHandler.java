@@ -10,10 +10,14 @@ import net.minestom.server.network.packet.client.login.ClientLoginPluginResponse
 import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
 import net.minestom.server.network.packet.client.play.*;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
+import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.utils.collection.ObjectArray;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
+import java.nio.ByteBuffer;
+
 /**
  * Contains registered packets and a way to instantiate them.
  * <p>
@@ -21,6 +25,7 @@ import org.jetbrains.annotations.UnknownNullability;
  */
 public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, ClientPacketsHandler.Login, ClientPacketsHandler.Configuration, ClientPacketsHandler.Play {
     private final ObjectArray<NetworkBuffer.Reader<ClientPacket>> suppliers = ObjectArray.singleThread(0x10);
+    private final ObjectArray<DirectReader> directReaders = ObjectArray.singleThread(0x10);
 
     private ClientPacketsHandler() {
     }
@@ -29,6 +34,11 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
         this.suppliers.set(id, packetSupplier);
     }
 
+    public void register(int id, @NotNull NetworkBuffer.Reader<ClientPacket> packetSupplier, @NotNull DirectReader directReader) {
+        register(id, packetSupplier);
+        this.directReaders.set(id, directReader);
+    }
+
     public @UnknownNullability ClientPacket create(int packetId, @NotNull NetworkBuffer reader) {
         final NetworkBuffer.Reader<ClientPacket> supplier = suppliers.get(packetId);
         if (supplier == null)
@@ -36,6 +46,29 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
         return supplier.read(reader);
     }
 
+    /**
+     * Reads a packet straight from its payload if a {@link DirectReader} is registered for it.
+     *
+     * @param connection the connection which received the packet
+     * @param packetId   the packet id
+     * @param payload    the packet payload
+     * @return the packet, or null if it has to be read using {@link #create(int, NetworkBuffer)}
+     */
+    public @Nullable ClientPacket createDirect(@NotNull PlayerConnection connection, int packetId, @NotNull ByteBuffer payload) {
+        final DirectReader reader = directReaders.get(packetId);
+        return reader != null ? reader.read(connection, payload) : null;
+    }
+
+    /**
+     * Reads frequent packets without allocating a {@link NetworkBuffer}, boxed values or new packet instances.
+     * <p>
+     * Must leave the payload untouched when returning null.
+     */
+    @FunctionalInterface
+    public interface DirectReader {
+        @Nullable ClientPacket read(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload);
+    }
+
     public static final class Status extends ClientPacketsHandler {
         private static int nextId = 0;
 
@@ -101,12 +134,12 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
             register(nextId++, ClientQueryEntityNbtPacket::new);
             register(nextId++, ClientInteractEntityPacket::new);
             register(nextId++, ClientGenerateStructurePacket::new);
-            register(nextId++, ClientKeepAlivePacket::new);
+            register(nextId++, ClientKeepAlivePacket::new, ClientKeepAlivePacket::read);
             nextId++; // lock difficulty
-            register(nextId++, ClientPlayerPositionPacket::new);
-            register(nextId++, ClientPlayerPositionAndRotationPacket::new);
-            register(nextId++, ClientPlayerRotationPacket::new);
-            register(nextId++, ClientPlayerPacket::new);
+            register(nextId++, ClientPlayerPositionPacket::new, ClientMovementPacket::readPosition);
+            register(nextId++, ClientPlayerPositionAndRotationPacket::new, ClientMovementPacket::readPositionAndRotation);
+            register(nextId++, ClientPlayerRotationPacket::new, ClientMovementPacket::readRotation);
+            register(nextId++, ClientPlayerPacket::new, ClientPlayerPacket::read);
             register(nextId++, ClientVehicleMovePacket::new);
             register(nextId++, ClientSteerBoatPacket::new);
             register(nextId++, ClientPickItemPacket::new);
@@ -131,7 +164,7 @@ public sealed class ClientPacketsHandler permits ClientPacketsHandler.Status, Cl
             nextId++; // Update Jigsaw Block
             register(nextId++, ClientUpdateStructureBlockPacket::new);
             register(nextId++, ClientUpdateSignPacket::new);
-            register(nextId++, ClientAnimationPacket::new);
+            register(nextId++, ClientAnimationPacket::new, ClientAnimationPacket::read);
             register(nextId++, ClientSpectatePacket::new);
             register(nextId++, ClientPlayerBlockPlacementPacket::new);
             register(nextId++, ClientUseItemPacket::new);
@@ -5,7 +5,12 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
 
 import static net.minestom.server.network.NetworkBuffer.LONG;
 
@@ -14,6 +19,12 @@ public record ClientKeepAlivePacket(long id) implements ClientPacket {
         this(reader.read(LONG));
     }
 
+    @ApiStatus.Internal
+    public static @Nullable ClientKeepAlivePacket read(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload) {
+        if (payload.remaining() < Long.BYTES) return null;
+        return new ClientKeepAlivePacket(payload.getLong());
+    }
+
     @Override
     public boolean processImmediately() {
         return true;
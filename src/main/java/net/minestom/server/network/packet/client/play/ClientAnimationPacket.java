@@ -5,13 +5,31 @@ import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerHandAnimationEvent;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
 
 public record ClientAnimationPacket(@NotNull Player.Hand hand) implements ClientPacket {
+    private static final ClientAnimationPacket[] PACKETS = new ClientAnimationPacket[]{
+            new ClientAnimationPacket(Player.Hand.MAIN), new ClientAnimationPacket(Player.Hand.OFF)};
+
     public ClientAnimationPacket(@NotNull NetworkBuffer reader) {
         this(reader.readEnum(Player.Hand.class));
     }
 
+    @ApiStatus.Internal
+    public static @Nullable ClientAnimationPacket read(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload) {
+        if (!payload.hasRemaining()) return null;
+        // Single byte var-int
+        final int ordinal = payload.get(payload.position());
+        if (ordinal < 0 || ordinal >= PACKETS.length) return null;
+        payload.position(payload.position() + 1);
+        return PACKETS[ordinal];
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.writeEnum(Player.Hand.class, hand);
@@ -0,0 +1,163 @@
+package net.minestom.server.network.packet.client.play;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jctools.queues.MessagePassingQueue;
+import org.jctools.queues.MpscArrayQueue;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Pooled form of {@link ClientPlayerPositionPacket}, {@link ClientPlayerPositionAndRotationPacket}
+ * and {@link ClientPlayerRotationPacket}, decoded straight from the payload without boxing nor reader allocation.
+ * <p>
+ * Instances are mutable and owned by their connection {@link Pool}, they return to it once handled
+ * and must therefore never be retained.
+ */
+@ApiStatus.Internal
+public final class ClientMovementPacket implements ClientPacket {
+    public static final byte POSITION = 0;
+    public static final byte POSITION_AND_ROTATION = 1;
+    public static final byte ROTATION = 2;
+
+    private static final int POSITION_SIZE = Double.BYTES * 3 + 1;
+    private static final int POSITION_AND_ROTATION_SIZE = Double.BYTES * 3 + Float.BYTES * 2 + 1;
+    private static final int ROTATION_SIZE = Float.BYTES * 2 + 1;
+
+    private final Pool pool;
+    private byte type;
+    private double x, y, z;
+    private float yaw, pitch;
+    private boolean onGround;
+
+    private ClientMovementPacket(Pool pool) {
+        this.pool = pool;
+    }
+
+    public static @Nullable ClientPacket readPosition(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload) {
+        if (payload.remaining() < POSITION_SIZE) return null;
+        final ClientMovementPacket packet = connection.movementPool().poll();
+        if (packet == null) return null;
+        packet.type = POSITION;
+        packet.x = payload.getDouble();
+        packet.y = payload.getDouble();
+        packet.z = payload.getDouble();
+        packet.onGround = payload.get() != 0;
+        return packet;
+    }
+
+    public static @Nullable ClientPacket readPositionAndRotation(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload) {
+        if (payload.remaining() < POSITION_AND_ROTATION_SIZE) return null;
+        final ClientMovementPacket packet = connection.movementPool().poll();
+        if (packet == null) return null;
+        packet.type = POSITION_AND_ROTATION;
+        packet.x = payload.getDouble();
+        packet.y = payload.getDouble();
+        packet.z = payload.getDouble();
+        packet.yaw = payload.getFloat();
+        packet.pitch = payload.getFloat();
+        packet.onGround = payload.get() != 0;
+        return packet;
+    }
+
+    public static @Nullable ClientPacket readRotation(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload) {
+        if (payload.remaining() < ROTATION_SIZE) return null;
+        final ClientMovementPacket packet = connection.movementPool().poll();
+        if (packet == null) return null;
+        packet.type = ROTATION;
+        packet.yaw = payload.getFloat();
+        packet.pitch = payload.getFloat();
+        packet.onGround = payload.get() != 0;
+        return packet;
+    }
+
+    public byte type() {
+        return type;
+    }
+
+    public boolean onGround() {
+        return onGround;
+    }
+
+    /**
+     * Applies the movement to a position, fields not part of the packet are kept.
+     *
+     * @param position the current position
+     * @return the new position
+     */
+    public @NotNull Pos apply(@NotNull Pos position) {
+        return switch (type) {
+            case POSITION -> position.withCoord(x, y, z);
+            case POSITION_AND_ROTATION -> new Pos(x, y, z, yaw, pitch);
+            case ROTATION -> position.withView(yaw, pitch);
+            default -> throw new IllegalStateException("Unknown movement type: " + type);
+        };
+    }
+
+    /**
+     * Returns this packet to its pool, it must not be used afterward.
+     */
+    public void recycle() {
+        this.pool.packets.relaxedOffer(this);
+    }
+
+    @Override
+    public void write(@NotNull NetworkBuffer writer) {
+        if (type != ROTATION) {
+            writer.write(DOUBLE, x);
+            writer.write(DOUBLE, y);
+            writer.write(DOUBLE, z);
+        }
+        if (type != POSITION) {
+            writer.write(FLOAT, yaw);
+            writer.write(FLOAT, pitch);
+        }
+        writer.write(BOOLEAN, onGround);
+    }
+
+    @Override
+    public void handle(Player player) {
+        try {
+            player.processMovement(apply(player.getPosition()), onGround);
+        } finally {
+            recycle();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClientMovementPacket[type=" + type + ", x=" + x + ", y=" + y + ", z=" + z +
+                ", yaw=" + yaw + ", pitch=" + pitch + ", onGround=" + onGround + "]";
+    }
+
+    /**
+     * Movement packets available to a connection, filled by the tick thread once handled
+     * and drained by the connection worker.
+     */
+    public static final class Pool {
+        private static final int SIZE = 16;
+
+        private final MessagePassingQueue<ClientMovementPacket> packets = new MpscArrayQueue<>(SIZE);
+
+        public Pool() {
+            for (int i = 0; i < SIZE; i++) packets.offer(new ClientMovementPacket(this));
+        }
+
+        /**
+         * Takes a packet from the pool.
+         *
+         * @return a packet, or null if all of them are waiting to be handled
+         */
+        public @Nullable ClientMovementPacket poll() {
+            return packets.relaxedPoll();
+        }
+    }
+}
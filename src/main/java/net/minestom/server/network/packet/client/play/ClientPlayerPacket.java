@@ -3,15 +3,29 @@ package net.minestom.server.network.packet.client.play;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
 
 import static net.minestom.server.network.NetworkBuffer.BOOLEAN;
 
 public record ClientPlayerPacket(boolean onGround) implements ClientPacket {
+    private static final ClientPlayerPacket ON_GROUND = new ClientPlayerPacket(true);
+    private static final ClientPlayerPacket IN_AIR = new ClientPlayerPacket(false);
+
     public ClientPlayerPacket(@NotNull NetworkBuffer reader) {
         this(reader.read(BOOLEAN));
     }
 
+    @ApiStatus.Internal
+    public static @Nullable ClientPlayerPacket read(@NotNull PlayerConnection connection, @NotNull ByteBuffer payload) {
+        if (!payload.hasRemaining()) return null;
+        return payload.get() != 0 ? ON_GROUND : IN_AIR;
+    }
+
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(BOOLEAN, onGround);
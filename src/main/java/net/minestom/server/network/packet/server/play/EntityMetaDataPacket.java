@@ -2,6 +2,7 @@ package net.minestom.server.network.packet.server.play;
 
 import net.kyori.adventure.text.Component;
 import net.minestom.server.entity.Metadata;
+import net.minestom.server.entity.MetadataHolder;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.ServerPacketIdentifier;
@@ -18,7 +19,8 @@ import static net.minestom.server.network.NetworkBuffer.VAR_INT;
 public record EntityMetaDataPacket(int entityId,
                                    @NotNull Map<Integer, Metadata.Entry<?>> entries) implements ServerPacket.Play, ServerPacket.ComponentHolding {
     public EntityMetaDataPacket {
-        entries = Map.copyOf(entries);
+        // Holder snapshots are already immutable and array-backed
+        if (!(entries instanceof MetadataHolder.Entries)) entries = Map.copyOf(entries);
     }
 
     public EntityMetaDataPacket(@NotNull NetworkBuffer reader) {
@@ -28,9 +30,13 @@ public record EntityMetaDataPacket(int entityId,
     @Override
     public void write(@NotNull NetworkBuffer writer) {
         writer.write(VAR_INT, entityId);
-        for (var entry : entries.entrySet()) {
-            writer.write(BYTE, entry.getKey().byteValue());
-            writer.write(entry.getValue());
+        if (entries instanceof MetadataHolder.Entries holderEntries) {
+            holderEntries.write(writer);
+        } else {
+            for (var entry : entries.entrySet()) {
+                writer.write(BYTE, entry.getKey().byteValue());
+                writer.write(entry.getValue());
+            }
         }
         writer.write(BYTE, (byte) 0xFF); // End
     }
@@ -4,6 +4,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.crypto.PlayerPublicKey;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.client.play.ClientMovementPacket;
 import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.common.CookieRequestPacket;
 import net.minestom.server.network.packet.server.common.CookieStorePacket;
@@ -40,6 +41,8 @@ public abstract class PlayerConnection {
 
     private final Map<NamespaceID, CompletableFuture<byte @Nullable []>> pendingCookieRequests = new ConcurrentHashMap<>();
 
+    private ClientMovementPacket.Pool movementPool; // Only accessed by the reading thread
+
     public PlayerConnection() {
         this.online = true;
         this.connectionState = ConnectionState.HANDSHAKE;
@@ -73,6 +76,18 @@ public abstract class PlayerConnection {
         sendPackets(List.of(packets));
     }
 
+    /**
+     * Gets the reusable movement packets of this connection, should only be called by the thread reading its packets.
+     *
+     * @return the movement packet pool
+     */
+    @ApiStatus.Internal
+    public @NotNull ClientMovementPacket.Pool movementPool() {
+        ClientMovementPacket.Pool pool = this.movementPool;
+        if (pool == null) this.movementPool = pool = new ClientMovementPacket.Pool();
+        return pool;
+    }
+
     /**
      * Gets the remote address of the client.
      *
@@ -17,6 +17,7 @@ import net.minestom.server.network.socket.Worker;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.server.utils.binary.SharedBuffer;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MessagePassingQueue;
 import org.jetbrains.annotations.ApiStatus;
@@ -47,6 +48,13 @@ public class PlayerSocketConnection extends PlayerConnection {
     private static final Logger LOGGER = LoggerFactory.getLogger(PlayerSocketConnection.class);
     private static final ObjectPool<BinaryBuffer> POOL = ObjectPool.BUFFER_POOL;
 
+    private static final long HIGH_WATERMARK = ServerFlag.SEND_QUEUE_HIGH_WATERMARK;
+    private static final long LOW_WATERMARK = ServerFlag.SEND_QUEUE_LOW_WATERMARK > 0 ?
+            ServerFlag.SEND_QUEUE_LOW_WATERMARK : HIGH_WATERMARK / 2;
+    private static final long LIMIT = ServerFlag.SEND_QUEUE_LIMIT > 0 ?
+            ServerFlag.SEND_QUEUE_LIMIT : HIGH_WATERMARK * 4;
+    private static final BackPressurePolicy POLICY = parsePolicy(ServerFlag.SEND_QUEUE_POLICY);
+
     private final Worker worker;
     private final MessagePassingQueue<Runnable> workerQueue;
     private final SocketChannel channel;
@@ -69,8 +77,19 @@ public class PlayerSocketConnection extends PlayerConnection {
     private final AtomicReference<BinaryBuffer> tickBuffer = new AtomicReference<>(POOL.get());
     private BinaryBuffer cacheBuffer;
 
+    private final SendQueue sendQueue = new SendQueue(HIGH_WATERMARK, LOW_WATERMARK, LIMIT, POLICY);
+
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
+    static @NotNull BackPressurePolicy parsePolicy(@NotNull String name) {
+        try {
+            return BackPressurePolicy.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown send queue policy '{}', defaulting to DISCONNECT.", name);
+            return BackPressurePolicy.DISCONNECT;
+        }
+    }
+
     public PlayerSocketConnection(@NotNull Worker worker, @NotNull SocketChannel channel, SocketAddress remoteAddress) {
         super();
         this.worker = worker;
@@ -150,24 +169,52 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     @Override
     public void sendPacket(@NotNull SendablePacket packet) {
+        if (dropped(packet)) return;
         final boolean compressed = this.compressed;
         this.workerQueue.relaxedOffer(() -> writePacketSync(packet, compressed));
     }
 
     @Override
     public void sendPackets(@NotNull Collection<SendablePacket> packets) {
-        final List<SendablePacket> packetsCopy = List.copyOf(packets);
+        final List<SendablePacket> packetsCopy = new ArrayList<>(packets.size());
+        for (SendablePacket packet : packets) {
+            if (!dropped(packet)) packetsCopy.add(packet);
+        }
+        if (packetsCopy.isEmpty()) return;
         final boolean compressed = this.compressed;
         this.workerQueue.relaxedOffer(() -> {
             for (SendablePacket packet : packetsCopy) writePacketSync(packet, compressed);
         });
     }
 
+    /**
+     * Writes already framed packets.
+     * <p>
+     * Unlike {@link #sendPacket(SendablePacket)}, the content is never dropped when congested
+     * as it may contain several packets, it still counts toward the pending bytes.
+     */
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer, int index, int length) {
         this.workerQueue.relaxedOffer(() -> writeBufferSync(buffer, index, length));
     }
 
+    /**
+     * Writes part of a shared buffer, retaining it until the worker has copied the data.
+     * <p>
+     * Used by viewer broadcasts, which like {@link #write(ByteBuffer, int, int)} are never dropped.
+     */
+    @ApiStatus.Internal
+    public void write(@NotNull SharedBuffer buffer, int index, int length) {
+        buffer.retain();
+        this.workerQueue.relaxedOffer(() -> {
+            try {
+                writeBufferSync(buffer.buffer(), index, length);
+            } finally {
+                buffer.release();
+            }
+        });
+    }
+
     @ApiStatus.Internal
     public void write(@NotNull ByteBuffer buffer) {
         write(buffer, buffer.position(), buffer.remaining());
@@ -352,6 +399,7 @@ public class PlayerSocketConnection extends PlayerConnection {
         BinaryBuffer localBuffer = tickBuffer.getPlain();
         if (localBuffer == null)
             return; // Socket is closed
+        updatePendingBytes(length);
         final int capacity = localBuffer.capacity();
         if (length <= capacity) {
             if (!localBuffer.canWrite(length)) localBuffer = updateLocalBuffer();
@@ -375,19 +423,82 @@ public class PlayerSocketConnection extends PlayerConnection {
             BinaryBuffer localBuffer = tickBuffer.getPlain();
             if (localBuffer == null)
                 return; // Socket is closed
+            final int readable = localBuffer.readableBytes();
             localBuffer.writeChannel(channel);
+            updatePendingBytes(localBuffer.readableBytes() - readable);
         } else {
             // Write as much as possible from the waiting list
             Iterator<BinaryBuffer> iterator = waitingBuffers.iterator();
             while (iterator.hasNext()) {
                 BinaryBuffer waitingBuffer = iterator.next();
-                if (!waitingBuffer.writeChannel(channel)) break;
+                final int readable = waitingBuffer.readableBytes();
+                final boolean complete = waitingBuffer.writeChannel(channel);
+                updatePendingBytes(waitingBuffer.readableBytes() - readable);
+                if (!complete) break;
                 iterator.remove();
                 POOL.add(waitingBuffer);
             }
         }
     }
 
+    private boolean dropped(SendablePacket packet) {
+        // Only extract the packet when congested, lazy packets would be computed otherwise
+        return sendQueue.dropping() && sendQueue.drop(SendablePacket.extractServerPacket(getConnectionState(), packet));
+    }
+
+    private void updatePendingBytes(long delta) {
+        if (sendQueue.update(delta) && isOnline()) {
+            LOGGER.warn("Disconnecting {}, {} bytes are waiting to be sent", getIdentifier(), sendQueue.pendingBytes());
+            disconnect();
+        }
+    }
+
+    /**
+     * Gets the number of bytes written by the server but not yet sent to the client.
+     *
+     * @return the pending bytes
+     */
+    public long getPendingBytes() {
+        return sendQueue.pendingBytes();
+    }
+
+    /**
+     * Gets if the pending bytes went over {@code minestom.send-queue.high-watermark}
+     * and have not gone back under {@code minestom.send-queue.low-watermark} yet.
+     *
+     * @return true if the client is not reading fast enough
+     */
+    public boolean isCongested() {
+        return sendQueue.congested();
+    }
+
+    /**
+     * Gets if chunk streaming should be paused until the client catches up.
+     *
+     * @return true if the connection is congested and the policy is {@link BackPressurePolicy#PAUSE_CHUNKS}
+     */
+    public boolean isChunkStreamingPaused() {
+        return sendQueue.chunkStreamingPaused();
+    }
+
+    /**
+     * Gets the number of low priority packets dropped because of congestion.
+     *
+     * @return the dropped packet count
+     */
+    public long getDroppedPackets() {
+        return sendQueue.droppedPackets();
+    }
+
+    /**
+     * Gets the number of times the connection went over the high watermark.
+     *
+     * @return the congestion count
+     */
+    public long getCongestionCount() {
+        return sendQueue.congestionCount();
+    }
+
     private BinaryBuffer updateLocalBuffer() {
         BinaryBuffer newBuffer = POOL.get();
         this.waitingBuffers.add(tickBuffer.getPlain());
@@ -397,4 +508,27 @@ public class PlayerSocketConnection extends PlayerConnection {
 
     record EncryptionContext(Cipher encrypt, Cipher decrypt) {
     }
+
+    /**
+     * Action taken when a client does not read its packets fast enough.
+     * <p>
+     * Whatever the policy, the client is disconnected once the pending bytes exceed {@code minestom.send-queue.limit}.
+     */
+    public enum BackPressurePolicy {
+        /**
+         * Drops rotation, velocity, sound, particle and time packets sent with {@link #sendPacket(SendablePacket)}.
+         * <p>
+         * Relative moves are kept as skipping one would desync the entity position,
+         * broadcasts written as framed buffers are never dropped.
+         */
+        DROP,
+        /**
+         * Stops sending chunks until the client catches up.
+         */
+        PAUSE_CHUNKS,
+        /**
+         * Disconnects the client.
+         */
+        DISCONNECT
+    }
 }
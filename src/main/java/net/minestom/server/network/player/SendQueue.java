@@ -0,0 +1,124 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityRotationPacket;
+import net.minestom.server.network.packet.server.play.EntitySoundEffectPacket;
+import net.minestom.server.network.packet.server.play.EntityVelocityPacket;
+import net.minestom.server.network.packet.server.play.ParticlePacket;
+import net.minestom.server.network.packet.server.play.SoundEffectPacket;
+import net.minestom.server.network.packet.server.play.TimeUpdatePacket;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts the bytes written to a connection but not yet sent to the client.
+ * <p>
+ * Pending bytes are only updated by the worker thread, the other methods are safe to call from any thread.
+ */
+final class SendQueue {
+    private final long highWatermark;
+    private final long lowWatermark;
+    private final long limit;
+    private final PlayerSocketConnection.BackPressurePolicy policy;
+
+    private volatile long pendingBytes;
+    private volatile boolean congested;
+    private volatile long congestionCount;
+    private final AtomicLong droppedPackets = new AtomicLong();
+
+    /**
+     * @param highWatermark the pending bytes over which the connection is congested, disabled if 0
+     * @param lowWatermark  the pending bytes under which the connection is no longer congested
+     * @param limit         the pending bytes over which the client is disconnected whatever the policy
+     * @param policy        the action taken while congested
+     */
+    SendQueue(long highWatermark, long lowWatermark, long limit,
+              @NotNull PlayerSocketConnection.BackPressurePolicy policy) {
+        this.highWatermark = highWatermark;
+        this.lowWatermark = Math.min(lowWatermark, highWatermark);
+        this.limit = Math.max(limit, highWatermark);
+        this.policy = policy;
+    }
+
+    /**
+     * Updates the pending bytes.
+     *
+     * @param delta the bytes written, negative when sent
+     * @return true if the client should be disconnected
+     */
+    boolean update(long delta) {
+        final long pendingBytes = this.pendingBytes + delta;
+        this.pendingBytes = pendingBytes;
+        if (highWatermark <= 0) return false;
+        if (!congested) {
+            if (pendingBytes <= highWatermark) return false;
+            this.congested = true;
+            this.congestionCount++;
+            return policy == PlayerSocketConnection.BackPressurePolicy.DISCONNECT || pendingBytes > limit;
+        }
+        if (pendingBytes <= lowWatermark) {
+            this.congested = false;
+            return false;
+        }
+        return delta > 0 && pendingBytes > limit;
+    }
+
+    /**
+     * Gets if a packet should be skipped, counting it as dropped.
+     *
+     * @param packet the packet about to be queued
+     * @return true if the packet should not be sent
+     */
+    boolean drop(@NotNull ServerPacket packet) {
+        if (!dropping() || !isDroppable(packet)) return false;
+        this.droppedPackets.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Gets if droppable packets are currently skipped.
+     *
+     * @return true if congested with the {@link PlayerSocketConnection.BackPressurePolicy#DROP} policy
+     */
+    boolean dropping() {
+        return congested && policy == PlayerSocketConnection.BackPressurePolicy.DROP;
+    }
+
+    long pendingBytes() {
+        return pendingBytes;
+    }
+
+    boolean congested() {
+        return congested;
+    }
+
+    boolean chunkStreamingPaused() {
+        return congested && policy == PlayerSocketConnection.BackPressurePolicy.PAUSE_CHUNKS;
+    }
+
+    long congestionCount() {
+        return congestionCount;
+    }
+
+    long droppedPackets() {
+        return droppedPackets.get();
+    }
+
+    /**
+     * Gets if skipping the packet leaves the client in a consistent state.
+     * <p>
+     * Only absolute states overwritten by the next update and one-shot effects are droppable,
+     * relative moves would shift the entity on the client until its next teleport.
+     *
+     * @param packet the packet to check
+     * @return true if the packet can be dropped
+     */
+    static boolean isDroppable(@NotNull ServerPacket packet) {
+        return packet instanceof EntityRotationPacket || packet instanceof EntityHeadLookPacket ||
+                packet instanceof EntityVelocityPacket || packet instanceof ParticlePacket ||
+                packet instanceof SoundEffectPacket || packet instanceof EntitySoundEffectPacket ||
+                packet instanceof TimeUpdatePacket;
+    }
+}
@@ -11,6 +11,7 @@ import net.kyori.adventure.text.format.Style;
 import net.kyori.adventure.text.serializer.gson.GsonComponentSerializer;
 import net.kyori.adventure.text.serializer.json.JSONComponentSerializer;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.collision.CollisionUtils;
 import net.minestom.server.collision.Shape;
@@ -132,6 +133,15 @@ public final class Registry {
 
     @ApiStatus.Internal
     public static Map<String, Map<String, Object>> load(Resource resource) {
+        if (ServerFlag.REGISTRY_BINARY) {
+            final Map<String, Map<String, Object>> map = RegistryBinary.load(resource);
+            if (map != null) return map;
+        }
+        return loadJson(resource);
+    }
+
+    @ApiStatus.Internal
+    public static Map<String, Map<String, Object>> loadJson(Resource resource) {
         Map<String, Map<String, Object>> map = new HashMap<>();
         try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(resource.name)) {
             Check.notNull(resourceStream, "Resource {0} does not exist!", resource);
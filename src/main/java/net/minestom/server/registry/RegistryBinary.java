@@ -0,0 +1,335 @@
+package net.minestom.server.registry;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Compact binary form of the registry json files, generated at build time by the {@code generateRegistryBinary} task.
+ * <p>
+ * The whole file is read in a single buffer, strings are deduplicated in a shared table,
+ * and top-level entries are only decoded once they are accessed.
+ * <p>
+ * Layout: {@code magic, version, string table, entry index (key + offset), entry data}.
+ */
+@ApiStatus.Internal
+public final class RegistryBinary {
+    private static final int MAGIC = 0x4D524547; // MREG
+    private static final int VERSION = 1;
+
+    private static final byte TAG_OBJECT = 0;
+    private static final byte TAG_ARRAY = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_FALSE = 5;
+    private static final byte TAG_TRUE = 6;
+
+    private RegistryBinary() {
+    }
+
+    /**
+     * Generates the binary form of every json registry resource.
+     *
+     * @param args the output directory
+     */
+    public static void main(String[] args) throws IOException {
+        final Path output = Path.of(args[0]);
+        Files.createDirectories(output);
+        for (Registry.Resource resource : Registry.Resource.values()) {
+            if (!resource.fileName().endsWith(".json")) continue;
+            final byte[] bytes = encode(Registry.loadJson(resource));
+            final Path path = output.resolve(fileName(resource));
+            Files.createDirectories(path.getParent());
+            Files.write(path, bytes);
+        }
+    }
+
+    static @NotNull String fileName(@NotNull Registry.Resource resource) {
+        final String name = resource.fileName();
+        return name.substring(0, name.lastIndexOf('.')) + ".bin";
+    }
+
+    /**
+     * Loads the binary form of a resource.
+     *
+     * @param resource the resource to load
+     * @return the lazily decoded entries, or null if the binary resource has not been generated
+     */
+    static @Nullable Map<String, Map<String, Object>> load(@NotNull Registry.Resource resource) {
+        try (InputStream resourceStream = Registry.class.getClassLoader().getResourceAsStream(fileName(resource))) {
+            if (resourceStream == null) return null;
+            return decode(resourceStream.readAllBytes());
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    static byte @NotNull [] encode(@NotNull Map<String, Map<String, Object>> entries) {
+        // Collect every string to build the shared table
+        Object2IntOpenHashMap<String> strings = new Object2IntOpenHashMap<>();
+        strings.defaultReturnValue(-1);
+        for (var entry : entries.entrySet()) {
+            collectStrings(strings, entry.getKey());
+            collectStrings(strings, entry.getValue());
+        }
+        String[] table = new String[strings.size()];
+        for (Object2IntMap.Entry<String> entry : strings.object2IntEntrySet()) table[entry.getIntValue()] = entry.getKey();
+
+        try {
+            // Entry data
+            final String[] keys = entries.keySet().toArray(String[]::new);
+            final int[] offsets = new int[keys.length];
+            ByteArrayOutputStream dataBytes = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(dataBytes);
+            for (int i = 0; i < keys.length; i++) {
+                offsets[i] = data.size();
+                writeValue(data, strings, entries.get(keys[i]));
+            }
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            writeVarInt(out, table.length);
+            for (String string : table) {
+                final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, utf8.length);
+                out.write(utf8);
+            }
+            writeVarInt(out, keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                writeVarInt(out, strings.getInt(keys[i]));
+                out.writeInt(offsets[i]);
+            }
+            dataBytes.writeTo(out);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static @NotNull Map<String, Map<String, Object>> decode(byte @NotNull [] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt() != MAGIC) throw new IllegalStateException("Invalid registry binary");
+        final int version = buffer.getInt();
+        if (version != VERSION) throw new IllegalStateException("Unsupported registry binary version: " + version);
+        String[] table = new String[readVarInt(buffer)];
+        for (int i = 0; i < table.length; i++) {
+            final int length = readVarInt(buffer);
+            table[i] = new String(bytes, buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        final int count = readVarInt(buffer);
+        String[] keys = new String[count];
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = table[readVarInt(buffer)];
+            offsets[i] = buffer.getInt();
+        }
+        return new LazyEntries(buffer.slice(), table, keys, offsets);
+    }
+
+    private static void collectStrings(Object2IntOpenHashMap<String> strings, Object value) {
+        if (value instanceof String string) {
+            strings.putIfAbsent(string, strings.size());
+        } else if (value instanceof Map<?, ?> map) {
+            for (var entry : map.entrySet()) {
+                collectStrings(strings, entry.getKey());
+                collectStrings(strings, entry.getValue());
+            }
+        } else if (value instanceof List<?> list) {
+            for (Object element : list) collectStrings(strings, element);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object2IntMap<String> strings, Object value) throws IOException {
+        switch (value) {
+            case Map<?, ?> map -> {
+                out.writeByte(TAG_OBJECT);
+                writeVarInt(out, map.size());
+                for (var entry : map.entrySet()) {
+                    writeVarInt(out, strings.getInt(entry.getKey()));
+                    writeValue(out, strings, entry.getValue());
+                }
+            }
+            case List<?> list -> {
+                out.writeByte(TAG_ARRAY);
+                writeVarInt(out, list.size());
+                for (Object element : list) writeValue(out, strings, element);
+            }
+            case String string -> {
+                out.writeByte(TAG_STRING);
+                writeVarInt(out, strings.getInt(string));
+            }
+            case Long number -> {
+                out.writeByte(TAG_LONG);
+                writeVarLong(out, (number << 1) ^ (number >> 63));
+            }
+            case Double number -> {
+                out.writeByte(TAG_DOUBLE);
+                out.writeDouble(number);
+            }
+            case Boolean bool -> out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+            default -> throw new IllegalStateException("Invalid registry value: " + value);
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer, String[] table) {
+        final byte tag = buffer.get();
+        return switch (tag) {
+            case TAG_OBJECT -> {
+                final int size = readVarInt(buffer);
+                Map<String, Object> map = new HashMap<>(size);
+                for (int i = 0; i < size; i++) map.put(table[readVarInt(buffer)], readValue(buffer, table));
+                yield map;
+            }
+            case TAG_ARRAY -> {
+                final int size = readVarInt(buffer);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(buffer, table));
+                yield list;
+            }
+            case TAG_STRING -> table[readVarInt(buffer)];
+            case TAG_LONG -> {
+                final long zigzag = readVarLong(buffer);
+                yield (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            case TAG_DOUBLE -> buffer.getDouble();
+            case TAG_FALSE -> false;
+            case TAG_TRUE -> true;
+            default -> throw new IllegalStateException("Invalid registry tag: " + tag);
+        };
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(ByteBuffer buffer) {
+        return (int) readVarLong(buffer);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return result;
+    }
+
+    /**
+     * Entries decoded on first access, rarely used ones are never materialized.
+     */
+    private static final class LazyEntries extends AbstractMap<String, Map<String, Object>> {
+        private final ByteBuffer data;
+        private final String[] table;
+        private final String[] keys;
+        private final int[] offsets;
+        private final Object2IntOpenHashMap<String> indexes;
+        private final Map<String, Object>[] values;
+        private Set<Map.Entry<String, Map<String, Object>>> entrySet;
+
+        @SuppressWarnings("unchecked")
+        LazyEntries(ByteBuffer data, String[] table, String[] keys, int[] offsets) {
+            this.data = data;
+            this.table = table;
+            this.keys = keys;
+            this.offsets = offsets;
+            this.indexes = new Object2IntOpenHashMap<>(keys.length);
+            this.indexes.defaultReturnValue(-1);
+            for (int i = 0; i < keys.length; i++) indexes.put(keys[i], i);
+            this.values = new Map[keys.length];
+        }
+
+        @SuppressWarnings("unchecked")
+        private synchronized Map<String, Object> value(int index) {
+            Map<String, Object> value = values[index];
+            if (value == null) {
+                value = (Map<String, Object>) readValue(data.duplicate().position(offsets[index]), table);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public Map<String, Object> get(Object key) {
+            final int index = indexes.getInt(key);
+            return index != -1 ? value(index) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexes.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public @NotNull Set<String> keySet() {
+            return Collections.unmodifiableSet(indexes.keySet());
+        }
+
+        @Override
+        public @NotNull Set<Map.Entry<String, Map<String, Object>>> entrySet() {
+            Set<Map.Entry<String, Map<String, Object>>> entrySet = this.entrySet;
+            if (entrySet == null) {
+                this.entrySet = entrySet = new AbstractSet<>() {
+                    @Override
+                    public @NotNull Iterator<Map.Entry<String, Map<String, Object>>> iterator() {
+                        return new Iterator<>() {
+                            private int index;
+
+                            @Override
+                            public boolean hasNext() {
+                                return index < keys.length;
+                            }
+
+                            @Override
+                            public Map.Entry<String, Map<String, Object>> next() {
+                                if (!hasNext()) throw new NoSuchElementException();
+                                final int i = index++;
+                                return new AbstractMap.SimpleImmutableEntry<>(keys[i], value(i));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return keys.length;
+                    }
+                };
+            }
+            return entrySet;
+        }
+    }
+}
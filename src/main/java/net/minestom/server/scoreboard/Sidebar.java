@@ -3,9 +3,14 @@ package net.minestom.server.scoreboard;
 import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.adventure.MinestomAdventure;
 import net.minestom.server.entity.Player;
 import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
+import net.minestom.server.timer.Scheduler;
+import net.minestom.server.utils.PacketUtils;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -14,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -25,10 +31,14 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>
  * Lines can be modified using their respective identifier using
  * {@link #updateLineContent(String, Component)} and {@link #updateLineScore(String, int)}.
+ * <p>
+ * When {@link #setBatched(boolean) batched}, line changes are sent once at the end of the tick,
+ * framed a single time and shared between all viewers.
  */
 public class Sidebar implements Scoreboard {
 
     private static final AtomicInteger COUNTER = new AtomicInteger();
+    private static final boolean BATCHING = ServerFlag.SIDEBAR_BATCHING;
 
     /**
      * <b>WARNING:</b> You should NOT create any scoreboards/teams with the same prefixes as those
@@ -50,6 +60,9 @@ public class Sidebar implements Scoreboard {
 
     private Component title;
 
+    private volatile boolean batched = BATCHING;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
     /**
      * Creates a new sidebar
      *
@@ -99,15 +112,50 @@ public class Sidebar implements Scoreboard {
             // Setup line
             scoreboardLine.retrieveName(availableColors);
             scoreboardLine.createTeam();
+            scoreboardLine.sentContent = scoreboardLine.content;
+            scoreboardLine.sentScore = scoreboardLine.line;
 
             // Finally add the line in cache
             this.lines.add(scoreboardLine);
 
             // Send to current viewers
-            sendPacketsToViewers(scoreboardLine.sidebarTeam.getCreationPacket(), scoreboardLine.getScoreCreationPacket(objectiveName));
+            if (!isTemplated(scoreboardLine)) {
+                sendPacketsToViewers(scoreboardLine.sidebarTeam.getCreationPacket(), scoreboardLine.getScoreCreationPacket(objectiveName));
+            } else {
+                for (Player viewer : viewers) {
+                    viewer.sendPacket(scoreboardLine.sidebarTeam.getCreationPacket(renderLine(scoreboardLine, viewer)));
+                }
+                sendPacketToViewers(scoreboardLine.getScoreCreationPacket(objectiveName));
+            }
         }
     }
 
+    /**
+     * Gets if line changes are batched until the end of the tick.
+     *
+     * @return true if the sidebar is batched
+     * @see #setBatched(boolean)
+     */
+    public boolean isBatched() {
+        return batched;
+    }
+
+    /**
+     * Changes how line changes are sent to the viewers.
+     * <p>
+     * When batched, {@link #updateLineContent(String, Component)} and {@link #updateLineScore(String, int)}
+     * only modify the lines, the final state of each modified line is sent once at the end of the tick.
+     * Changes reverted within the same tick are not sent.
+     * <p>
+     * Defaults to {@link ServerFlag#SIDEBAR_BATCHING}.
+     *
+     * @param batched true to batch line changes
+     */
+    public void setBatched(boolean batched) {
+        this.batched = batched;
+        if (!batched) flushLines();
+    }
+
     /**
      * Updates a {@link ScoreboardLine} content through the given identifier.
      *
@@ -116,10 +164,16 @@ public class Sidebar implements Scoreboard {
      */
     public void updateLineContent(@NotNull String id, @NotNull Component content) {
         final ScoreboardLine scoreboardLine = getLine(id);
-        if (scoreboardLine != null) {
+        if (scoreboardLine == null) return;
+        synchronized (lines) {
             scoreboardLine.refreshContent(content);
-            sendPacketToViewers(scoreboardLine.sidebarTeam.updatePrefix(content));
+            if (batched) {
+                markDirty(scoreboardLine);
+                return;
+            }
+            scoreboardLine.sentContent = content;
         }
+        sendPacketToViewers(scoreboardLine.sidebarTeam.updatePrefix(content));
     }
 
     /**
@@ -130,9 +184,54 @@ public class Sidebar implements Scoreboard {
      */
     public void updateLineScore(@NotNull String id, int score) {
         final ScoreboardLine scoreboardLine = getLine(id);
-        if (scoreboardLine != null) {
+        if (scoreboardLine == null) return;
+        synchronized (lines) {
             scoreboardLine.line = score;
-            sendPacketToViewers(scoreboardLine.getLineScoreUpdatePacket(objectiveName, score));
+            if (batched) {
+                markDirty(scoreboardLine);
+                return;
+            }
+            scoreboardLine.sentScore = score;
+        }
+        sendPacketToViewers(scoreboardLine.getLineScoreUpdatePacket(objectiveName, score));
+    }
+
+    private void markDirty(ScoreboardLine line) {
+        line.dirty = true;
+        if (flushScheduled.compareAndSet(false, true)) Scheduler.scheduleEndOfTick(this::flushLines);
+    }
+
+    /**
+     * Sends the lines modified since the last flush, skipping the ones which went back to their sent state.
+     * <p>
+     * Packets go through the viewable buffer, flushed right after the end of tick tasks.
+     */
+    private void flushLines() {
+        this.flushScheduled.set(false);
+        synchronized (lines) {
+            for (ScoreboardLine line : lines) {
+                if (!line.dirty) continue;
+                line.dirty = false;
+                final Component content = line.getContent();
+                if (!content.equals(line.sentContent)) {
+                    line.sentContent = content;
+                    sendBatchedPacket(line.sidebarTeam.updatePrefix(content));
+                }
+                final int score = line.line;
+                if (score != line.sentScore) {
+                    line.sentScore = score;
+                    sendBatchedPacket(line.getLineScoreUpdatePacket(objectiveName, score));
+                }
+            }
+        }
+    }
+
+    private void sendBatchedPacket(ServerPacket packet) {
+        if (MinestomAdventure.AUTOMATIC_COMPONENT_TRANSLATION) {
+            // Components may be translated per viewer
+            sendPacketToViewers(packet);
+        } else {
+            PacketUtils.prepareViewablePacket(this, packet);
         }
     }
 
@@ -180,6 +279,31 @@ public class Sidebar implements Scoreboard {
         });
     }
 
+    /**
+     * Gets if the content of a line is rendered for each viewer.
+     *
+     * @param line the line to check
+     * @return true if the line is rendered per viewer, false if shared
+     */
+    boolean isTemplated(@NotNull ScoreboardLine line) {
+        return false;
+    }
+
+    /**
+     * Renders the content of a templated line for a viewer.
+     *
+     * @param line   the templated line
+     * @param viewer the viewer to render the line for
+     * @return the line content seen by {@code viewer}
+     */
+    @NotNull Component renderLine(@NotNull ScoreboardLine line, @NotNull Player viewer) {
+        return line.getContent();
+    }
+
+    @NotNull TeamsPacket lineUpdatePacket(@NotNull ScoreboardLine line, @NotNull Component content) {
+        return line.sidebarTeam.updatePrefix(content);
+    }
+
     @Override
     public boolean addViewer(@NotNull Player player) {
         final boolean result = this.viewers.add(player);
@@ -190,7 +314,8 @@ public class Sidebar implements Scoreboard {
         DisplayScoreboardPacket displayScoreboardPacket = this.getDisplayScoreboardPacket((byte) 1);
         player.sendPacket(displayScoreboardPacket); // Show sidebar scoreboard (wait for scores packet)
         for (ScoreboardLine line : lines) {
-            player.sendPacket(line.sidebarTeam.getCreationPacket());
+            player.sendPacket(isTemplated(line) ?
+                    line.sidebarTeam.getCreationPacket(renderLine(line, player)) : line.sidebarTeam.getCreationPacket());
             player.sendPacket(line.getScoreCreationPacket(objectiveName));
         }
         return result;
@@ -252,6 +377,12 @@ public class Sidebar implements Scoreboard {
          * The sidebar team of the line
          */
         private SidebarTeam sidebarTeam;
+        /**
+         * The state last sent to the viewers, used by batched sidebars
+         */
+        private Component sentContent;
+        private int sentScore;
+        private boolean dirty;
 
         public ScoreboardLine(@NotNull String id, @NotNull Component content, int line) {
             this(id, content, line, null);
@@ -395,6 +526,16 @@ public class Sidebar implements Scoreboard {
          * @return a {@link TeamsPacket} which creates a new team
          */
         private TeamsPacket getCreationPacket() {
+            return getCreationPacket(prefix);
+        }
+
+        /**
+         * Gets a team creation packet with a specific prefix
+         *
+         * @param prefix The prefix sent instead of the team one
+         * @return a {@link TeamsPacket} which creates a new team
+         */
+        private TeamsPacket getCreationPacket(Component prefix) {
             final var action = new TeamsPacket.CreateTeamAction(teamDisplayName, friendlyFlags,
                     nameTagVisibility, collisionRule, teamColor, prefix, suffix, List.of(entityName));
             return new TeamsPacket(teamName, action);
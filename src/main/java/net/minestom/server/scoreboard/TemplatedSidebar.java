@@ -0,0 +1,148 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link Sidebar} shared between players where some lines are rendered for each viewer.
+ * <p>
+ * Lines created with {@link #createLine(ScoreboardLine)} are shared and their packets are built once for all viewers,
+ * lines created with {@link #createPlayerLine(String, int, Function)} hold a template which is applied to every viewer.
+ * Templated lines are only re-rendered when calling {@link #refreshPlayerLine(String)}, and only sent to the viewers
+ * for which the rendered content changed.
+ */
+public class TemplatedSidebar extends Sidebar {
+
+    private final Map<String, Function<Player, Component>> templates = new ConcurrentHashMap<>();
+    // Line id -> content last sent to each viewer
+    private final Map<String, Map<Player, Component>> renderedLines = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new templated sidebar
+     *
+     * @param title The title of the sidebar
+     */
+    public TemplatedSidebar(@NotNull Component title) {
+        super(title);
+    }
+
+    /**
+     * Creates a new line rendered for each viewer.
+     *
+     * @param id       the identifier of the line
+     * @param line     the score of the line
+     * @param template the function rendering the line content for a viewer
+     * @throws IllegalStateException    if the sidebar cannot take more line
+     * @throws IllegalArgumentException if the sidebar already has a line with the same id
+     */
+    public void createPlayerLine(@NotNull String id, int line, @NotNull Function<@NotNull Player, @NotNull Component> template) {
+        createPlayerLine(id, line, null, template);
+    }
+
+    /**
+     * Creates a new line rendered for each viewer.
+     *
+     * @param id           the identifier of the line
+     * @param line         the score of the line
+     * @param numberFormat the number format of the line
+     * @param template     the function rendering the line content for a viewer
+     * @throws IllegalStateException    if the sidebar cannot take more line
+     * @throws IllegalArgumentException if the sidebar already has a line with the same id
+     */
+    public void createPlayerLine(@NotNull String id, int line, @Nullable NumberFormat numberFormat,
+                                 @NotNull Function<@NotNull Player, @NotNull Component> template) {
+        Check.argCondition(getLine(id) != null, "You cannot add two ScoreboardLine with the same id");
+        this.templates.put(id, template);
+        try {
+            createLine(new ScoreboardLine(id, Component.empty(), line, numberFormat));
+        } catch (RuntimeException e) {
+            this.templates.remove(id);
+            this.renderedLines.remove(id);
+            throw e;
+        }
+    }
+
+    /**
+     * Renders a templated line again for all viewers.
+     *
+     * @param id the identifier of the templated line
+     */
+    public void refreshPlayerLine(@NotNull String id) {
+        for (Player viewer : getViewers()) {
+            refreshPlayerLine(id, viewer);
+        }
+    }
+
+    /**
+     * Renders a templated line again for a single viewer, nothing is sent if the content did not change.
+     *
+     * @param id     the identifier of the templated line
+     * @param player the viewer to render the line for
+     */
+    public void refreshPlayerLine(@NotNull String id, @NotNull Player player) {
+        final ScoreboardLine line = getLine(id);
+        final Function<Player, Component> template = templates.get(id);
+        if (line == null || template == null || !isViewer(player)) return;
+        final Component content = template.apply(player);
+        final Component previous = renderedLines.computeIfAbsent(id, i -> new ConcurrentHashMap<>()).put(player, content);
+        if (content.equals(previous)) return;
+        player.sendPacket(lineUpdatePacket(line, content));
+    }
+
+    /**
+     * Renders all the templated lines again for all viewers.
+     */
+    public void refreshPlayerLines() {
+        for (String id : templates.keySet()) {
+            refreshPlayerLine(id);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the line is templated, use {@link #refreshPlayerLine(String)} instead
+     */
+    @Override
+    public void updateLineContent(@NotNull String id, @NotNull Component content) {
+        Check.argCondition(templates.containsKey(id), "The line {0} is rendered per player", id);
+        super.updateLineContent(id, content);
+    }
+
+    @Override
+    public void removeLine(@NotNull String id) {
+        super.removeLine(id);
+        this.templates.remove(id);
+        this.renderedLines.remove(id);
+    }
+
+    @Override
+    public boolean removeViewer(@NotNull Player player) {
+        final boolean result = super.removeViewer(player);
+        for (Map<Player, Component> rendered : renderedLines.values()) {
+            rendered.remove(player);
+        }
+        return result;
+    }
+
+    @Override
+    boolean isTemplated(@NotNull ScoreboardLine line) {
+        return templates.containsKey(line.getId());
+    }
+
+    @Override
+    @NotNull Component renderLine(@NotNull ScoreboardLine line, @NotNull Player viewer) {
+        final Function<Player, Component> template = templates.get(line.getId());
+        if (template == null) return super.renderLine(line, viewer);
+        final Component content = template.apply(viewer);
+        renderedLines.computeIfAbsent(line.getId(), i -> new ConcurrentHashMap<>()).put(viewer, content);
+        return content;
+    }
+}
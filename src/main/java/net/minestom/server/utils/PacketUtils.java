@@ -26,6 +26,7 @@ import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.player.PlayerConnection;
 import net.minestom.server.network.player.PlayerSocketConnection;
 import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.server.utils.binary.SharedBuffer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,7 +34,13 @@ import org.jetbrains.annotations.Nullable;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.zip.DataFormatException;
@@ -53,10 +60,24 @@ public final class PacketUtils {
 
     // Viewable packets
     private static final Cache<Viewable, ViewableStorage> VIEWABLE_STORAGE_MAP = Caffeine.newBuilder().weakKeys().build();
+    // Below this amount of storages, flushing on the tick thread is cheaper than dispatching
+    private static final int FLUSH_PARALLEL_THRESHOLD = 64;
+    private static final ExecutorService FLUSH_EXECUTOR = createFlushExecutor();
 
     private PacketUtils() {
     }
 
+    private static @Nullable ExecutorService createFlushExecutor() {
+        final int threads = ServerFlag.VIEWABLE_FLUSH_THREADS - 1; // The tick thread takes part in the flush
+        if (threads <= 0) return null;
+        final AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Ms-viewable-flush-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
     /**
      * Sends a packet to an audience. This method performs the following steps in the
      * following order:
@@ -179,9 +200,39 @@ public final class PacketUtils {
 
     @ApiStatus.Internal
     public static void flush() {
-        if (ServerFlag.VIEWABLE_PACKET) {
-            VIEWABLE_STORAGE_MAP.asMap().entrySet().parallelStream().forEach(entry ->
-                    entry.getValue().process(entry.getKey()));
+        if (!ServerFlag.VIEWABLE_PACKET) return;
+        final Map<Viewable, ViewableStorage> storages = VIEWABLE_STORAGE_MAP.asMap();
+        final ExecutorService executor = FLUSH_EXECUTOR;
+        if (executor == null || storages.size() < FLUSH_PARALLEL_THRESHOLD) {
+            storages.forEach((viewable, storage) -> storage.process(viewable));
+            return;
+        }
+        // Split the storages between the flush threads, the caller processes the last part
+        @SuppressWarnings("unchecked") final Map.Entry<Viewable, ViewableStorage>[] entries = storages.entrySet().toArray(Map.Entry[]::new);
+        final int taskCount = Math.min(ServerFlag.VIEWABLE_FLUSH_THREADS, entries.length);
+        final int step = (entries.length + taskCount - 1) / taskCount;
+        Future<?>[] futures = new Future[taskCount - 1];
+        for (int i = 0; i < futures.length; i++) {
+            final int start = i * step, end = Math.min(entries.length, start + step);
+            futures[i] = executor.submit(() -> processStorages(entries, start, end));
+        }
+        processStorages(entries, futures.length * step, entries.length);
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                MinecraftServer.getExceptionManager().handleException(e.getCause());
+            }
+        }
+    }
+
+    private static void processStorages(Map.Entry<Viewable, ViewableStorage>[] entries, int start, int end) {
+        for (int i = start; i < end; i++) {
+            final Map.Entry<Viewable, ViewableStorage> entry = entries[i];
+            entry.getValue().process(entry.getKey());
         }
     }
 
@@ -327,10 +378,16 @@ public final class PacketUtils {
                 final int packetSize = framedPacket.limit();
                 if (packetSize >= buffer.capacity()) {
                     process(viewable);
-                    for (Player viewer : viewable.getViewers()) {
-                        if (!Objects.equals(exception, viewer)) {
-                            writeTo(viewer.getPlayerConnection(), framedPacket, 0, packetSize);
+                    // The held buffer is reused once released, viewers are written asynchronously
+                    final SharedBuffer shared = SharedBuffer.copyOf(framedPacket, 0, packetSize);
+                    try {
+                        for (Player viewer : viewable.getViewers()) {
+                            if (!Objects.equals(exception, viewer)) {
+                                writeTo(viewer.getPlayerConnection(), shared, 0, packetSize);
+                            }
                         }
+                    } finally {
+                        shared.release();
                     }
                     return;
                 }
@@ -348,15 +405,19 @@ public final class PacketUtils {
 
         private synchronized void process(Viewable viewable) {
             if (buffer.writerOffset() == 0) return;
-            ByteBuffer copy = ByteBuffer.allocateDirect(buffer.writerOffset());
-            copy.put(buffer.asByteBuffer(0, copy.capacity()));
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
-            this.entityIdMap.clear();
+            // Shared by every viewer, returned to the pool once the last worker wrote it
+            final SharedBuffer shared = SharedBuffer.copyOf(buffer);
+            try {
+                viewable.getViewers().forEach(player -> processPlayer(player, shared));
+            } finally {
+                shared.release();
+                this.buffer.clear();
+                this.entityIdMap.clear();
+            }
         }
 
-        private void processPlayer(Player player, ByteBuffer buffer) {
-            final int size = buffer.limit();
+        private void processPlayer(Player player, SharedBuffer buffer) {
+            final int size = buffer.size();
             final PlayerConnection connection = player.getPlayerConnection();
             final LongArrayList pairs = entityIdMap.get(player.getEntityId());
             if (pairs != null) {
@@ -376,7 +437,7 @@ public final class PacketUtils {
             }
         }
 
-        private static void writeTo(PlayerConnection connection, ByteBuffer buffer, int offset, int length) {
+        private static void writeTo(PlayerConnection connection, SharedBuffer buffer, int offset, int length) {
             if (connection instanceof PlayerSocketConnection socketConnection) socketConnection.write(buffer, offset, length);
             // TODO for non-socket connection
         }
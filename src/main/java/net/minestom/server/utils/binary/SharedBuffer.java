@@ -0,0 +1,88 @@
+package net.minestom.server.utils.binary;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.ObjectPool;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pooled off-heap buffer shared between multiple readers.
+ * <p>
+ * Every reader has to {@link #retain()} the buffer before using it and {@link #release()} it once done,
+ * pooled buffers are returned to {@link ObjectPool#SHARED_POOL} when the last reference is released.
+ * The content must not be modified once shared.
+ */
+@ApiStatus.Internal
+public final class SharedBuffer {
+    private final ByteBuffer buffer;
+    private final int size;
+    private final boolean pooled;
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private SharedBuffer(ByteBuffer buffer, int size, boolean pooled) {
+        this.buffer = buffer;
+        this.size = size;
+        this.pooled = pooled;
+    }
+
+    /**
+     * Copies the written bytes of a buffer into a pooled one.
+     * <p>
+     * The returned buffer is owned by the caller, which has to release it.
+     *
+     * @param source the buffer to copy, its size cannot exceed the pooled buffer size
+     * @return a new shared buffer with a single reference
+     */
+    public static @NotNull SharedBuffer copyOf(@NotNull BinaryBuffer source) {
+        final int size = source.writerOffset();
+        ByteBuffer buffer = ObjectPool.SHARED_POOL.get();
+        Check.argCondition(size > buffer.capacity(), "Buffer too large to be shared: {0}", size);
+        buffer.put(0, source.asByteBuffer(0, size), 0, size);
+        return new SharedBuffer(buffer, size, true);
+    }
+
+    /**
+     * Copies part of a buffer, into a pooled buffer if it fits or a dedicated one otherwise.
+     * <p>
+     * The returned buffer is owned by the caller, which has to release it.
+     *
+     * @param source the buffer to copy
+     * @param index  the index of the first byte to copy
+     * @param length the number of bytes to copy
+     * @return a new shared buffer with a single reference
+     */
+    public static @NotNull SharedBuffer copyOf(@NotNull ByteBuffer source, int index, int length) {
+        final boolean pooled = length <= ServerFlag.POOLED_BUFFER_SIZE;
+        ByteBuffer buffer = pooled ? ObjectPool.SHARED_POOL.get() : ByteBuffer.allocateDirect(length);
+        buffer.put(0, source, index, length);
+        return new SharedBuffer(buffer, length, pooled);
+    }
+
+    public @NotNull ByteBuffer buffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public @NotNull SharedBuffer retain() {
+        final int previous = references.getAndIncrement();
+        Check.stateCondition(previous <= 0, "Buffer has already been released");
+        return this;
+    }
+
+    public void release() {
+        final int remaining = references.decrementAndGet();
+        Check.stateCondition(remaining < 0, "Buffer has been released too many times");
+        if (remaining == 0 && pooled) ObjectPool.SHARED_POOL.add(buffer);
+    }
+
+    public int references() {
+        return references.get();
+    }
+}
@@ -139,6 +139,30 @@ public final class ChunkUtils {
         return (int) index;
     }
 
+    /**
+     * Packs a block position in a long, using the same layout as the network position type.
+     *
+     * @param x the block X, within 26 bits
+     * @param y the block Y, within 12 bits
+     * @param z the block Z, within 26 bits
+     * @return the packed position
+     */
+    public static long getBlockPositionIndex(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFFL);
+    }
+
+    public static int getBlockPositionX(long index) {
+        return (int) (index >> 38);
+    }
+
+    public static int getBlockPositionY(long index) {
+        return (int) (index << 52 >> 52);
+    }
+
+    public static int getBlockPositionZ(long index) {
+        return (int) (index << 26 >> 38);
+    }
+
     public static int getChunkCount(int range) {
         if (range < 0) {
             throw new IllegalArgumentException("Range cannot be negative");
@@ -150,11 +174,17 @@ public final class ChunkUtils {
     public static void forDifferingChunksInRange(int newChunkX, int newChunkZ,
                                                  int oldChunkX, int oldChunkZ,
                                                  int range, @NotNull IntegerBiConsumer callback) {
+        // Only visit the ring leaving the old range instead of testing the whole square
+        final int minZ = newChunkZ - range, maxZ = newChunkZ + range;
+        final int oldMinZ = oldChunkZ - range, oldMaxZ = oldChunkZ + range;
         for (int x = newChunkX - range; x <= newChunkX + range; x++) {
-            for (int z = newChunkZ - range; z <= newChunkZ + range; z++) {
-                if (Math.abs(x - oldChunkX) > range || Math.abs(z - oldChunkZ) > range) {
-                    callback.accept(x, z);
-                }
+            if (Math.abs(x - oldChunkX) > range) {
+                // Whole column is new
+                for (int z = minZ; z <= maxZ; z++) callback.accept(x, z);
+            } else {
+                // Column overlaps, only its ends may differ
+                for (int z = minZ; z <= Math.min(maxZ, oldMinZ - 1); z++) callback.accept(x, z);
+                for (int z = Math.max(minZ, oldMaxZ + 1); z <= maxZ; z++) callback.accept(x, z);
             }
         }
     }
@@ -0,0 +1,135 @@
+package net.minestom.server.utils.collection;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Canonicalizes equal immutable objects, so they can be shared and compared by reference.
+ * <p>
+ * Canonical instances are weakly referenced and dropped once unused, hashes are computed once per instance.
+ */
+@ApiStatus.Internal
+public final class WeakInterner<T> {
+    private static final int STRIPES = 16;
+
+    private final Stripe<T>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    public WeakInterner() {
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) stripes[i] = new Stripe<>();
+    }
+
+    /**
+     * Gets the canonical instance equal to {@code value}, {@code value} becomes the canonical instance if none exist.
+     *
+     * @param value the value to intern
+     * @return the canonical instance
+     */
+    public @NotNull T intern(@NotNull T value) {
+        final int hash = value.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)].intern(value, hash);
+    }
+
+    /**
+     * Gets the number of canonical instances, including the ones not yet cleared.
+     *
+     * @return the interned instance count
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<T> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.expunge();
+                size += stripe.entries.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Stripe<T> {
+        private final Map<Key<T>, Ref<T>> entries = new HashMap<>();
+        private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+
+        synchronized T intern(T value, int hash) {
+            expunge();
+            final Ref<T> existing = entries.get(new Probe<>(value, hash));
+            if (existing != null) {
+                final T canonical = existing.get();
+                if (canonical != null) return canonical;
+                entries.remove(existing);
+            }
+            final Ref<T> ref = new Ref<>(value, hash, queue);
+            entries.put(ref, ref);
+            return value;
+        }
+
+        void expunge() {
+            Object ref;
+            while ((ref = queue.poll()) != null) {
+                //noinspection SuspiciousMethodCalls
+                entries.remove(ref);
+            }
+        }
+    }
+
+    private sealed interface Key<T> permits Probe, Ref {
+        T value();
+
+        int hash();
+
+        static boolean equals(Key<?> key, Object other) {
+            if (key == other) return true;
+            if (!(other instanceof Key<?> otherKey) || key.hash() != otherKey.hash()) return false;
+            final Object value = key.value();
+            return value != null && Objects.equals(value, otherKey.value());
+        }
+    }
+
+    private record Probe<T>(T value, int hash) implements Key<T> {
+        @Override
+        public boolean equals(Object obj) {
+            return Key.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Ref<T> extends WeakReference<T> implements Key<T> {
+        private final int hash;
+
+        Ref(T referent, int hash, ReferenceQueue<T> queue) {
+            super(referent, queue);
+            this.hash = hash;
+        }
+
+        @Override
+        public T value() {
+            return get();
+        }
+
+        @Override
+        public int hash() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return Key.equals(this, obj);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package net.minestom.server.entity;
 
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 public class EntityMetaTest {
 
@@ -21,4 +24,39 @@ public class EntityMetaTest {
         }
         assertTrue(list.isEmpty(), "Missing meta for: " + list);
     }
+
+    @Test
+    public void holderEntries() {
+        MetadataHolder holder = new MetadataHolder(null);
+        assertEquals(Map.of(), holder.getEntries());
+
+        holder.setIndex(0, Metadata.Byte((byte) 1));
+        holder.setIndex(5, Metadata.VarInt(5));
+        var entries = holder.getEntries();
+        assertEquals(Map.of(0, Metadata.Byte((byte) 1), 5, Metadata.VarInt(5)), entries);
+        assertSame(entries, holder.getEntries());
+        assertNull(entries.get(1));
+        assertEquals(2, entries.size());
+
+        holder.setIndex(1, Metadata.Boolean(true));
+        assertEquals(3, holder.getEntries().size());
+        assertEquals(true, holder.getIndex(1, false));
+        assertThrows(IllegalArgumentException.class, () -> holder.setIndex(64, Metadata.Boolean(true)));
+    }
+
+    @Test
+    public void holderEntriesPacket() {
+        MetadataHolder holder = new MetadataHolder(null);
+        holder.setIndex(2, Metadata.VarInt(7));
+        holder.setIndex(9, Metadata.Boolean(false));
+
+        var packet = new EntityMetaDataPacket(1, holder.getEntries());
+        var expected = new EntityMetaDataPacket(1, Map.of(2, Metadata.VarInt(7), 9, Metadata.Boolean(false)));
+        assertEquals(expected, packet);
+
+        NetworkBuffer buffer = new NetworkBuffer();
+        packet.write(buffer);
+        var read = new EntityMetaDataPacket(buffer);
+        assertEquals(expected, read);
+    }
 }
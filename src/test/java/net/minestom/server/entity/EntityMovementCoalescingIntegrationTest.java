@@ -0,0 +1,116 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionPacket;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnvTest
+public class EntityMovementCoalescingIntegrationTest {
+
+    @Test
+    public void mergedRelativeMove(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var positionTracker = connection.trackIncoming(EntityPositionPacket.class);
+        var teleportTracker = connection.trackIncoming(EntityTeleportPacket.class);
+        entity.refreshPosition(new Pos(0.5, 42, 0));
+        entity.refreshPosition(new Pos(1, 42, 0));
+        entity.refreshPosition(new Pos(1.5, 42, 0.25));
+        // Nothing is sent before the end of the tick
+        moveTracker.assertEmpty();
+
+        moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        entity.tick(0);
+        moveTracker.assertSingle(packet -> {
+            assertEquals(entity.getEntityId(), packet.entityId());
+            assertEquals((short) (1.5 * 32 * 128), packet.deltaX());
+            assertEquals(0, packet.deltaY());
+            assertEquals((short) (0.25 * 32 * 128), packet.deltaZ());
+        });
+        positionTracker.assertEmpty();
+        teleportTracker.assertEmpty();
+    }
+
+    @Test
+    public void largeMoveTeleports(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var teleportTracker = connection.trackIncoming(EntityTeleportPacket.class);
+        // Each move is small, the merged one is not
+        for (int i = 1; i <= 5; i++) entity.refreshPosition(new Pos(i * 2, 42, 0));
+        entity.tick(0);
+        teleportTracker.assertSingle(packet -> assertEquals(new Pos(10, 42, 0), packet.position()));
+        moveTracker.assertEmpty();
+    }
+
+    @Test
+    public void teleportSupersedesMoves(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var teleportTracker = connection.trackIncoming(EntityTeleportPacket.class);
+        entity.refreshPosition(new Pos(1, 42, 0));
+        entity.teleport(new Pos(2, 42, 2)).join();
+        entity.tick(0);
+        teleportTracker.assertSingle(packet -> assertEquals(new Pos(2, 42, 2), packet.position()));
+        moveTracker.assertEmpty();
+    }
+
+    @Test
+    public void moveBack(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = spawn(instance);
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        var teleportTracker = connection.trackIncoming(EntityTeleportPacket.class);
+        // A -> B -> A in the same tick
+        entity.refreshPosition(new Pos(1, 42, 0));
+        entity.refreshPosition(new Pos(0, 42, 0));
+        assertEquals(new Pos(0, 42, 0), entity.getPosition());
+        entity.tick(0);
+        // Back at the synchronized position, nothing to send
+        moveTracker.assertEmpty();
+        teleportTracker.assertEmpty();
+
+        // A -> B, then B -> A -> B
+        moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        entity.refreshPosition(new Pos(1, 42, 0));
+        entity.tick(0);
+        moveTracker.assertSingle(packet -> assertEquals((short) (32 * 128), packet.deltaX()));
+        entity.refreshPosition(new Pos(0, 42, 0));
+        entity.refreshPosition(new Pos(1, 42, 0));
+        entity.refreshPosition(new Pos(0, 42, 0));
+        assertEquals(new Pos(0, 42, 0), entity.getPosition());
+        moveTracker = connection.trackIncoming(EntityPositionAndRotationPacket.class);
+        entity.tick(0);
+        moveTracker.assertSingle(packet -> assertEquals((short) (-32 * 128), packet.deltaX()));
+    }
+
+    private static Entity spawn(Instance instance) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setNoGravity(true);
+        entity.setMovementCoalescing(true);
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        return entity;
+    }
+}
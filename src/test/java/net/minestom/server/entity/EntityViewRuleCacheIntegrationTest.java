@@ -0,0 +1,70 @@
+package net.minestom.server.entity;
+
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityViewRuleCacheIntegrationTest {
+
+    @Test
+    public void droppedOnRuleUpdate(Env env) {
+        var view = new EntityView(new Entity(EntityType.ZOMBIE), true);
+        var other = new Entity(EntityType.ZOMBIE);
+        AtomicBoolean visible = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        view.viewerOption.updateRule(entity -> {
+            calls.incrementAndGet();
+            return visible.get();
+        });
+
+        assertTrue(view.viewerOption.predicate(other));
+        assertTrue(view.viewerOption.predicate(other));
+        assertEquals(1, calls.get());
+
+        // Only re-evaluated once the rule is updated
+        visible.set(false);
+        assertTrue(view.viewerOption.predicate(other));
+        view.viewerOption.updateRule();
+        assertFalse(view.viewerOption.predicate(other));
+        assertEquals(2, calls.get());
+
+        visible.set(true);
+        view.viewerOption.updateRule(entity -> visible.get());
+        assertTrue(view.viewerOption.predicate(other));
+    }
+
+    @Test
+    public void limitedSize(Env env) {
+        var view = new EntityView(new Entity(EntityType.ZOMBIE), true);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i <= EntityView.RULE_CACHE_LIMIT; i++) entities.add(new Entity(EntityType.ZOMBIE));
+        Set<Integer> visible = new HashSet<>();
+        entities.forEach(entity -> visible.add(entity.getEntityId()));
+        AtomicInteger calls = new AtomicInteger();
+        view.viewerOption.updateRule(entity -> {
+            calls.incrementAndGet();
+            return visible.contains(entity.getEntityId());
+        });
+
+        for (Entity entity : entities) assertTrue(view.viewerOption.predicate(entity));
+        assertEquals(entities.size(), calls.get());
+        // The cache was cleared when full, the first entity is evaluated again
+        assertTrue(view.viewerOption.predicate(entities.get(0)));
+        assertEquals(entities.size() + 1, calls.get());
+
+        // No result from before the clear survives a rule update
+        visible.clear();
+        view.viewerOption.updateRule();
+        for (Entity entity : entities) assertFalse(view.viewerOption.predicate(entity));
+    }
+}
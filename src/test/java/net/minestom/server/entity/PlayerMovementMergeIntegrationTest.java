@@ -0,0 +1,94 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.event.player.PlayerChangeHeldSlotEvent;
+import net.minestom.server.event.player.PlayerMoveEvent;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.network.packet.client.play.ClientHeldItemChangePacket;
+import net.minestom.server.network.packet.client.play.ClientPlayerPositionPacket;
+import net.minestom.server.network.packet.client.play.ClientTeleportConfirmPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnvTest
+public class PlayerMovementMergeIntegrationTest {
+
+    @Test
+    public void singleMovement(Env env) {
+        var instance = env.createFlatInstance();
+        var player = spawn(env, instance);
+        List<PlayerMoveEvent> moves = trackMoves(instance);
+
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.6, 40, 0.1), true));
+        player.interpretPacketQueue();
+
+        assertEquals(1, moves.size());
+        assertEquals(new Pos(0.6, 40, 0.1), moves.get(0).getNewPosition());
+        assertEquals(new Pos(0.6, 40, 0.1), player.getPosition());
+    }
+
+    @Test
+    public void onGroundTransition(Env env) {
+        var instance = env.createFlatInstance();
+        var player = spawn(env, instance);
+        List<PlayerMoveEvent> moves = trackMoves(instance);
+
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0, 40.5, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0, 41, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0, 41.5, 0), false));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0, 42, 0), false));
+        player.interpretPacketQueue();
+
+        assertEquals(2, moves.size());
+        assertEquals(new Pos(0, 41, 0), moves.get(0).getNewPosition());
+        assertTrue(moves.get(0).isOnGround());
+        assertEquals(new Pos(0, 42, 0), moves.get(1).getNewPosition());
+        assertFalse(moves.get(1).isOnGround());
+    }
+
+    @Test
+    public void flushedBeforeOtherPacket(Env env) {
+        var instance = env.createFlatInstance();
+        var player = spawn(env, instance);
+        List<PlayerMoveEvent> moves = trackMoves(instance);
+        List<Pos> heldSlotPositions = new ArrayList<>();
+        instance.eventNode().addListener(PlayerChangeHeldSlotEvent.class,
+                event -> heldSlotPositions.add(event.getPlayer().getPosition()));
+
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.2, 40, 0), true));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.4, 40, 0), true));
+        player.addPacketToQueue(new ClientHeldItemChangePacket((short) 1));
+        player.addPacketToQueue(new ClientPlayerPositionPacket(new Pos(0.6, 40, 0), true));
+        player.interpretPacketQueue();
+
+        // The pending move is processed before the held slot change
+        assertEquals(List.of(new Pos(0.4, 40, 0)), heldSlotPositions);
+        assertEquals(2, moves.size());
+        assertEquals(new Pos(0.4, 40, 0), moves.get(0).getNewPosition());
+        assertEquals(new Pos(0.6, 40, 0), moves.get(1).getNewPosition());
+    }
+
+    private static Player spawn(Env env, Instance instance) {
+        var player = env.createPlayer(instance, new Pos(0, 40, 0));
+        player.setMovementMerge(true);
+        player.addPacketToQueue(new ClientTeleportConfirmPacket(player.getLastSentTeleportId()));
+        player.interpretPacketQueue();
+        return player;
+    }
+
+    private static List<PlayerMoveEvent> trackMoves(Instance instance) {
+        List<PlayerMoveEvent> moves = new ArrayList<>();
+        instance.eventNode().addListener(PlayerMoveEvent.class, moves::add);
+        return moves;
+    }
+}
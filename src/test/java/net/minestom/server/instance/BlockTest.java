@@ -58,6 +58,34 @@ public class BlockTest {
         assertThrows(Exception.class, () -> block.withProperties(Map.of("random", "randomKey")));
     }
 
+    @Test
+    public void propertyHandles() {
+        Block block = Block.REDSTONE_WIRE;
+        Block.Property power = block.property("power");
+        assertNotNull(power);
+        assertNull(block.property("random"));
+        assertNull(Block.STONE.property("power"));
+
+        for (int i = 0; i < power.values().size(); i++) {
+            final String value = power.values().get(i);
+            Block updated = block.withProperty(power, i);
+            assertEquals(block.withProperty("power", value), updated);
+            assertEquals(value, updated.getProperty("power"));
+            assertEquals(i, updated.propertyIndex(power));
+            assertEquals(value, updated.getProperty(power));
+            assertEquals(updated, updated.withProperty("north", "up").withProperty(power, value).withProperty("north", updated.getProperty("north")));
+        }
+
+        for (var possible : block.possibleStates()) {
+            assertEquals(possible, block.withProperties(possible.properties()));
+            assertEquals(possible.withProperty("east", "side"), possible.withProperty(block.property("east"), "side"));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> Block.CHEST.withProperty(power, 0));
+        assertThrows(IllegalArgumentException.class, () -> block.withProperty(power, "random"));
+        assertThrows(IndexOutOfBoundsException.class, () -> block.withProperty(power, power.values().size()));
+    }
+
     @Test
     public void testEquality() {
         var nbt = CompoundBinaryTag.builder().putInt("key", 5).build();
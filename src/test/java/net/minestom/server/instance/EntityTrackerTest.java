@@ -216,6 +216,61 @@ public class EntityTrackerTest {
         assertEquals(0, entities.size());
     }
 
+    @Test
+    public void nearbySpatialHash() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        var ent3 = new Entity(EntityType.ZOMBIE);
+
+        EntityTracker tracker = EntityTracker.newTracker(4);
+        tracker.register(ent1, new Vec(0, 0, 0), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(-3, 2, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent3, new Vec(40, 0, 0), EntityTracker.Target.ENTITIES, null);
+
+        Set<Entity> entities = new HashSet<>();
+        tracker.nearbyEntities(Vec.ZERO, 4, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2), entities);
+        entities.clear();
+
+        tracker.nearbyEntities(Vec.ZERO, 100, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent2, ent3), entities);
+        entities.clear();
+
+        tracker.nearbyEntities(Vec.ZERO, 4, EntityTracker.Target.PLAYERS, entity -> fail("No player should be nearby"));
+
+        tracker.move(ent3, new Vec(1, 1, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.move(ent2, new Vec(-30, 2, 1), EntityTracker.Target.ENTITIES, null);
+        tracker.nearbyEntities(Vec.ZERO, 4, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent1, ent3), entities);
+        entities.clear();
+
+        tracker.unregister(ent1, EntityTracker.Target.ENTITIES, null);
+        tracker.nearbyEntities(Vec.ZERO, 4, EntityTracker.Target.ENTITIES, entities::add);
+        assertEquals(Set.of(ent3), entities);
+    }
+
+    @Test
+    public void entitiesInBox() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        for (EntityTracker tracker : new EntityTracker[]{EntityTracker.newTracker(0), EntityTracker.newTracker(4)}) {
+            tracker.register(ent1, new Vec(1, 5, 1), EntityTracker.Target.ENTITIES, null);
+            tracker.register(ent2, new Vec(20, 0, -20), EntityTracker.Target.ENTITIES, null);
+
+            Set<Entity> entities = new HashSet<>();
+            tracker.entitiesInBox(new Vec(0, 0, 0), new Vec(2, 6, 2), EntityTracker.Target.ENTITIES, entities::add);
+            assertEquals(Set.of(ent1), entities);
+            entities.clear();
+
+            tracker.entitiesInBox(new Vec(21, 10, 0), new Vec(0, 0, -21), EntityTracker.Target.ENTITIES, entities::add);
+            assertEquals(Set.of(ent1, ent2), entities);
+            entities.clear();
+
+            tracker.entitiesInBox(new Vec(0, 6, 0), new Vec(2, 10, 2), EntityTracker.Target.ENTITIES, entities::add);
+            assertEquals(Set.of(), entities);
+        }
+    }
+
     @Test
     public void collectionView() {
         var ent1 = new Entity(EntityType.ZOMBIE);
@@ -5,9 +5,14 @@ import net.kyori.adventure.nbt.TagStringIOExt;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.batch.AbsoluteBlockBatch;
+import net.minestom.server.instance.batch.BatchOption;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.network.packet.server.play.BlockChangePacket;
 import net.minestom.server.network.packet.server.play.BlockEntityDataPacket;
+import net.minestom.server.network.packet.server.play.ChunkDataPacket;
+import net.minestom.server.network.packet.server.play.ExplosionPacket;
+import net.minestom.server.network.packet.server.play.MultiBlockChangePacket;
 import net.minestom.server.tag.Tag;
 import net.minestom.server.utils.NamespaceID;
 import net.minestom.testing.Env;
@@ -17,8 +22,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 @EnvTest
 public class InstanceBlockPacketIntegrationTest {
@@ -95,4 +102,86 @@ public class InstanceBlockPacketIntegrationTest {
 
         assertEquals(block, instance.getBlock(blockPoint));
     }
+
+    @Test
+    public void explosionGroupedBySection(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var blockTracker = connection.trackIncoming(BlockChangePacket.class);
+        var multiBlockTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var explosionTracker = connection.trackIncoming(ExplosionPacket.class);
+        instance.explode(new Vec(8.5, 36.5, 8.5), 4);
+
+        assertEquals(Block.AIR, instance.getBlock(8, 36, 8));
+        var explosion = explosionTracker.collect();
+        assertEquals(1, explosion.size());
+        final int destroyed = explosion.get(0).records().length / 3;
+        assertTrue(destroyed > 0);
+
+        int sent = blockTracker.collect().size();
+        for (MultiBlockChangePacket packet : multiBlockTracker.collect()) {
+            for (long record : packet.blocks()) assertEquals(Block.AIR.stateId(), (int) (record >>> 12));
+            sent += packet.blocks().length;
+        }
+        assertEquals(destroyed, sent);
+        assertFalse(multiBlockTracker.collect().isEmpty());
+    }
+
+    @Test
+    public void sectionChangesOverridePosition(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        var changes = new SectionChanges();
+        changes.add(1, 41, 1, Block.STONE);
+        changes.add(2, 41, 1, Block.STONE);
+        changes.add(1, 41, 1, Block.GOLD_BLOCK);
+        changes.add(3, 41, 1, Block.CHEST);
+        changes.add(3, 41, 1, Block.DIRT);
+        assertEquals(3, changes.size());
+
+        var multiBlockTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        var blockEntityTracker = connection.trackIncoming(BlockEntityDataPacket.class);
+        changes.send(instance);
+        multiBlockTracker.assertSingle(packet -> assertArrayEquals(new long[]{
+                (long) Block.GOLD_BLOCK.stateId() << 12 | 1 << 8 | 1 << 4 | 9,
+                (long) Block.STONE.stateId() << 12 | 2 << 8 | 1 << 4 | 9,
+                (long) Block.DIRT.stateId() << 12 | 3 << 8 | 1 << 4 | 9
+        }, packet.blocks()));
+        // The chest was replaced before being sent
+        blockEntityTracker.assertEmpty();
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void batchSectionUpdates(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        connection.connect(instance, new Pos(0, 40, 0)).join();
+
+        AbsoluteBlockBatch batch = new AbsoluteBlockBatch(new BatchOption().setSectionUpdates(true));
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                batch.setBlock(x, 41, z, Block.GOLD_BLOCK); // Section 2
+                batch.setBlock(x, 50, z, Block.DIAMOND_BLOCK); // Section 3
+            }
+        }
+
+        var chunkTracker = connection.trackIncoming(ChunkDataPacket.class);
+        var multiBlockTracker = connection.trackIncoming(MultiBlockChangePacket.class);
+        CountDownLatch latch = new CountDownLatch(1);
+        batch.unsafeApply(instance, latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        chunkTracker.assertEmpty();
+        var packets = multiBlockTracker.collect();
+        assertEquals(2, packets.size());
+        for (MultiBlockChangePacket packet : packets) assertEquals(256, packet.blocks().length);
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(3, 41, 7));
+        assertEquals(Block.DIAMOND_BLOCK, instance.getBlock(15, 50, 0));
+        assertEquals(50, instance.getChunk(0, 0).motionBlockingHeightmap().getHeight(4, 4));
+    }
 }
@@ -0,0 +1,108 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.async.AsyncUtils;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static net.minestom.server.instance.light.LightCompute.CONTENT_FULLY_LIT;
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LightingChunkLoadIntegrationTest {
+
+    @Test
+    public void validLightIsKept(Env env) {
+        var source = env.createFlatInstance();
+        source.setChunkSupplier(LightingChunk::new);
+        var sourceChunk = (LightingChunk) source.loadChunk(0, 0).join();
+        sourceChunk.createLightData(true);
+        for (Section section : sourceChunk.getSections()) assertTrue(section.isLightValid());
+
+        var instance = new InstanceContainer();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.setChunkLoader(new Loader(i -> {
+            Chunk chunk = sourceChunk.copy(i, 0, 0);
+            // Not the computed light, only kept if the chunk is not relit
+            chunk.getSection(0).setBlockLight(CONTENT_FULLY_LIT);
+            return chunk;
+        }));
+        var chunk = (LightingChunk) instance.loadChunk(0, 0).join();
+        for (Section section : chunk.getSections()) {
+            assertTrue(section.isLightValid());
+            assertFalse(section.blockLight().requiresUpdate());
+            assertFalse(section.skyLight().requiresUpdate());
+        }
+        chunk.createLightData(true);
+        assertEquals(15, chunk.getSection(0).blockLight().getLevel(0, 0, 0));
+        assertEquals(sourceChunk.getSection(4).skyLight().getLevel(0, 15, 0),
+                chunk.getSection(4).skyLight().getLevel(0, 15, 0));
+    }
+
+    @Test
+    public void missingLightIsComputed(Env env) {
+        var instance = new InstanceContainer();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.setChunkLoader(new Loader(i -> {
+            Chunk chunk = new LightingChunk(i, 0, 0);
+            chunk.setBlock(0, 0, 0, Block.GLOWSTONE);
+            return chunk;
+        }));
+        var chunk = (LightingChunk) instance.loadChunk(0, 0).join();
+        assertFalse(chunk.getSection(0).isLightValid());
+        assertTrue(chunk.getSection(0).blockLight().requiresUpdate());
+
+        LightingChunk.relight(instance, instance.getChunks());
+        assertTrue(chunk.getSection(0).isLightValid());
+        assertEquals(14, chunk.getSection(0).blockLight().getLevel(1, 0, 0));
+    }
+
+    @Test
+    public void outdatedLightIsNotCopied(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        var chunk = instance.loadChunk(0, 0).join();
+        LightingChunk.relight(instance, instance.getChunks());
+        assertTrue(chunk.getSection(0).clone().isLightValid());
+
+        chunk.getSection(0).blockLight().invalidate();
+        assertFalse(chunk.getSection(0).isLightValid());
+        assertFalse(chunk.getSection(0).clone().isLightValid());
+        assertTrue(chunk.getSection(0).clone().blockLight().requiresUpdate());
+    }
+
+    @Test
+    public void copiedUnlitInstanceIsComputed(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        instance.loadChunk(0, 0).join();
+        instance.setBlock(0, 40, 0, Block.GLOWSTONE);
+        // Copied before its light is computed
+        var copy = instance.copy();
+        var chunk = copy.getChunk(0, 0);
+        assertNotNull(chunk);
+        assertFalse(chunk.getSectionAt(40).isLightValid());
+
+        LightingChunk.relight(copy, copy.getChunks());
+        for (Section section : chunk.getSections()) assertTrue(section.isLightValid());
+        assertEquals(14, chunk.getSectionAt(40).blockLight().getLevel(1, 40 & 0xF, 0));
+        assertEquals(15, chunk.getSectionAt(41).skyLight().getLevel(0, 41 & 0xF, 0));
+    }
+
+    private record Loader(Function<Instance, Chunk> supplier) implements IChunkLoader {
+        @Override
+        public @NotNull CompletableFuture<Chunk> loadChunk(@NotNull Instance instance, int chunkX, int chunkZ) {
+            return CompletableFuture.completedFuture(supplier.apply(instance));
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Void> saveChunk(@NotNull Chunk chunk) {
+            return AsyncUtils.VOID_FUTURE;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class LightingSchedulerIntegrationTest {
+
+    @Test
+    public void coalescedInvalidations(Env env) {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        var chunk = (LightingChunk) instance.loadChunk(0, 0).join();
+        LightingChunk.relight(instance, instance.getChunks());
+        assertFalse(chunk.getSection(2).blockLight().requiresUpdate());
+
+        var scheduler = new LightingScheduler(1);
+        scheduler.invalidate(chunk, 2);
+        scheduler.invalidate(chunk, 2);
+        scheduler.invalidate(chunk, 2);
+        scheduler.invalidate(chunk, 3);
+        var metrics = scheduler.metrics();
+        assertEquals(2, metrics.pendingSections());
+        assertEquals(2, metrics.coalescedUpdates());
+        // Invalidation is delayed until the flush
+        assertFalse(chunk.getSection(2).blockLight().requiresUpdate());
+
+        scheduler.flush();
+        assertTrue(chunk.getSection(2).blockLight().requiresUpdate());
+        assertTrue(chunk.getSection(3).skyLight().requiresUpdate());
+        assertEquals(0, scheduler.metrics().pendingSections());
+    }
+
+    @Test
+    public void prioritizedRelight(Env env) throws InterruptedException {
+        var instance = env.createFlatInstance();
+        instance.setChunkSupplier(LightingChunk::new);
+        env.createPlayer(instance, new Pos(0, 40, 0));
+        var near = (LightingChunk) instance.loadChunk(0, 0).join();
+        var far = (LightingChunk) instance.loadChunk(20, 20).join();
+
+        var scheduler = new LightingScheduler(1);
+        scheduler.relight(far);
+        scheduler.relight(near);
+        scheduler.relight(near);
+        assertEquals(2, scheduler.metrics().queuedChunks());
+        assertEquals(1, scheduler.metrics().coalescedUpdates());
+
+        // Only one chunk at once, closest to the player first
+        scheduler.flush();
+        assertFalse(scheduler.isQueued(near));
+        assertTrue(scheduler.isQueued(far));
+        awaitRelit(scheduler, 1);
+
+        scheduler.flush();
+        assertFalse(scheduler.isQueued(far));
+        awaitRelit(scheduler, 2);
+        var metrics = scheduler.metrics();
+        assertEquals(0, metrics.queuedChunks());
+        assertEquals(0, metrics.runningChunks());
+        assertTrue(metrics.maxLatencyNanos() >= metrics.averageLatencyNanos());
+    }
+
+    private static void awaitRelit(LightingScheduler scheduler, long count) throws InterruptedException {
+        final long deadline = System.nanoTime() + 10_000_000_000L;
+        while (scheduler.metrics().relitChunks() < count || scheduler.metrics().runningChunks() > 0) {
+            assertTrue(System.nanoTime() < deadline, "Relight timed out");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class OverlayInstanceIntegrationTest {
+
+    @Test
+    public void isolatedModifications(Env env) {
+        var base = (InstanceContainer) env.createFlatInstance();
+        var first = new OverlayInstance(base);
+        var second = new OverlayInstance(base);
+        assertSame(base, first.getBase());
+
+        first.loadChunk(0, 0).join();
+        second.loadChunk(0, 0).join();
+        assertEquals(Block.STONE, first.getBlock(0, 39, 0));
+        assertEquals(Block.AIR, first.getBlock(0, 40, 0));
+
+        first.setBlock(0, 39, 0, Block.GRASS_BLOCK);
+        first.setBlock(0, 40, 0, Block.GLASS);
+        assertEquals(Block.GRASS_BLOCK, first.getBlock(0, 39, 0));
+        assertEquals(Block.GLASS, first.getBlock(0, 40, 0));
+        assertEquals(Block.STONE, base.getBlock(0, 39, 0));
+        assertEquals(Block.STONE, second.getBlock(0, 39, 0));
+        assertEquals(Block.AIR, second.getBlock(0, 40, 0));
+
+        // Chunks absent from the base are loaded in it
+        first.loadChunk(5, 5).join();
+        assertNotNull(base.getChunk(5, 5));
+        assertEquals(Block.STONE, first.getBlock(80, 0, 80));
+    }
+
+    @Test
+    public void sharedLight(Env env) {
+        var base = (InstanceContainer) env.createFlatInstance();
+        base.setChunkSupplier(LightingChunk::new);
+        var baseChunk = base.loadChunk(0, 0).join();
+        LightingChunk.relight(base, base.getChunks());
+        var overlay = new OverlayInstance(base);
+        var chunk = overlay.loadChunk(0, 0).join();
+        assertInstanceOf(LightingChunk.class, chunk);
+        for (int i = 0; i < chunk.getSections().size(); i++) {
+            var section = chunk.getSections().get(i);
+            var baseSection = baseChunk.getSections().get(i);
+            assertTrue(section.isLightValid());
+            assertEquals(baseSection.skyLight().getLevel(0, 15, 0), section.skyLight().getLevel(0, 15, 0));
+        }
+
+        // Relighting the overlay leaves the base light untouched
+        overlay.setBlock(0, 40, 0, Block.GLOWSTONE);
+        LightingChunk.relight(overlay, overlay.getChunks());
+        assertEquals(14, chunk.getSectionAt(40).blockLight().getLevel(1, 40 & 0xF, 0));
+        assertEquals(0, baseChunk.getSectionAt(40).blockLight().getLevel(1, 40 & 0xF, 0));
+    }
+
+    @Test
+    public void independentState(Env env) {
+        var base = (InstanceContainer) env.createFlatInstance();
+        var overlay = new OverlayInstance(base);
+        overlay.setTime(1000);
+        overlay.setWeather(Weather.RAIN);
+        assertNotEquals(1000, base.getTime());
+        assertEquals(Weather.CLEAR, base.getWeather());
+
+        var player = env.createPlayer(overlay, new Pos(0, 40, 0));
+        assertEquals(overlay, player.getInstance());
+        assertTrue(base.getPlayers().isEmpty());
+        assertEquals(Block.STONE, overlay.getBlock(0, 39, 0));
+    }
+}
@@ -0,0 +1,60 @@
+package net.minestom.server.instance.light;
+
+import it.unimi.dsi.fastutil.shorts.ShortArrayFIFOQueue;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.instance.palette.Palette;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class BitwiseLightComputeTest {
+    private static final List<Block> BLOCKS = List.of(Block.STONE, Block.GLASS, Block.OAK_SLAB,
+            Block.OAK_STAIRS.withProperty("facing", "east"), Block.OAK_FENCE, Block.WATER, Block.GLOWSTONE,
+            Block.TORCH, Block.SEA_LANTERN);
+
+    @Test
+    public void empty() {
+        var palette = Palette.blocks();
+        assertSame(LightCompute.EMPTY_CONTENT, BitwiseLightCompute.compute(palette, new ShortArrayFIFOQueue()));
+    }
+
+    @Test
+    public void sameAsBreadthFirst() {
+        Random random = new Random(0);
+        for (int i = 0; i < 50; i++) {
+            final double density = random.nextDouble() * 0.6;
+            var palette = Palette.blocks();
+            palette.setAll((x, y, z) -> random.nextDouble() < density ?
+                    BLOCKS.get(random.nextInt(BLOCKS.size())).stateId() : 0);
+            // Internal light sources
+            assertSameLight(palette, BlockLight.buildInternalQueue(palette), BlockLight.buildInternalQueue(palette));
+            // Light coming from the section borders
+            ShortArrayFIFOQueue queue = new ShortArrayFIFOQueue();
+            ShortArrayFIFOQueue copy = new ShortArrayFIFOQueue();
+            for (int j = 0; j < 64; j++) {
+                final int index = random.nextInt(16) | random.nextInt(16) << 4 | (random.nextBoolean() ? 15 : 0) << 8;
+                final short entry = (short) (index | random.nextInt(16) << 12);
+                queue.enqueue(entry);
+                copy.enqueue(entry);
+            }
+            assertSameLight(palette, queue, copy);
+        }
+    }
+
+    @Test
+    public void enclosedSource() {
+        var palette = Palette.blocks();
+        palette.fill(Block.STONE.stateId());
+        palette.set(8, 8, 8, Block.GLOWSTONE.stateId());
+        palette.set(9, 8, 8, 0);
+        assertSameLight(palette, BlockLight.buildInternalQueue(palette), BlockLight.buildInternalQueue(palette));
+    }
+
+    private static void assertSameLight(Palette palette, ShortArrayFIFOQueue queue, ShortArrayFIFOQueue copy) {
+        assertArrayEquals(LightCompute.computeBreadthFirst(palette, queue), BitwiseLightCompute.compute(palette, copy));
+    }
+}
@@ -1,13 +1,17 @@
 package net.minestom.server.instance.palette;
 
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -285,6 +289,246 @@ public class PaletteTest {
         assertDoesNotThrow(() -> Palette.newPalette(16, 5, 3));
     }
 
+    @Test
+    public void cloneIsolation() {
+        for (Palette palette : testPalettes()) {
+            palette.set(0, 0, 0, 1);
+            palette.set(1, 0, 0, 2);
+            var copy = palette.clone();
+            var secondCopy = palette.clone();
+
+            // Write to the copy
+            copy.set(0, 0, 0, 3);
+            assertEquals(1, palette.get(0, 0, 0));
+            assertEquals(3, copy.get(0, 0, 0));
+            assertEquals(2, copy.get(1, 0, 0));
+
+            // Write to the original, with enough values to resize the palette
+            for (int i = 0; i < 64; i++) palette.set(i % palette.dimension(), 1, i / palette.dimension(), 100 + i);
+            assertEquals(0, copy.get(0, 1, 0));
+            assertEquals(1, secondCopy.get(0, 0, 0));
+            assertEquals(0, secondCopy.get(0, 1, 0));
+            assertEquals(2, secondCopy.count());
+            assertEquals(2, copy.count());
+
+            // Bulk writes
+            secondCopy.fill(5);
+            assertEquals(1, palette.get(0, 0, 0));
+            assertEquals(3, copy.get(0, 0, 0));
+            copy.replaceAll((x, y, z, value) -> value + 1);
+            assertEquals(5, secondCopy.get(0, 0, 0));
+            assertEquals(1, palette.get(0, 0, 0));
+            assertEquals(4, copy.get(0, 0, 0));
+        }
+    }
+
+    @Test
+    public void copyArrays() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            final int size = palette.maxSize();
+            int[] values = new int[size];
+            palette.copyTo(values);
+            assertArrayEquals(new int[size], values);
+            assertThrows(IllegalArgumentException.class, () -> palette.copyTo(new int[size - 1]));
+
+            // Enough distinct values to store them directly
+            for (int i = 0; i < size; i++) values[i] = i % 3 == 0 ? 0 : i + 1;
+            palette.copyFrom(values);
+            palette.getAll((x, y, z, value) -> assertEquals(values[x + z * dimension + y * dimension * dimension], value));
+            assertEquals(size - (size + 2) / 3, palette.count());
+
+            short[] shorts = new short[size];
+            palette.copyTo(shorts);
+            for (int i = 0; i < size; i++) assertEquals(values[i], shorts[i]);
+            for (int i = 0; i < size; i++) shorts[i] = (short) (i & 3);
+            palette.copyFrom(shorts);
+            int[] result = new int[size];
+            palette.copyTo(result);
+            for (int i = 0; i < size; i++) assertEquals(i & 3, result[i]);
+        }
+    }
+
+    @Test
+    public void fillRegion() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            final int half = dimension / 2;
+            palette.fill(0, 0, 0, dimension, half, dimension, 1);
+            palette.fill(1, 0, 0, half, dimension, half, 2);
+            palette.fill(0, 1, 0, 1, 1, dimension, 3);
+            palette.getAll((x, y, z, value) -> {
+                int expected = y < half ? 1 : 0;
+                if (x >= 1 && x < half && z < half) expected = 2;
+                assertEquals(expected, value);
+            });
+            assertEquals(palette.maxSize() / 2 + (half - 1) * half * half, palette.count());
+
+            palette.fill(0, 0, 0, dimension, dimension, dimension, 0);
+            assertEquals(0, palette.count());
+            assertThrows(IllegalArgumentException.class, () -> palette.fill(0, 0, 0, dimension + 1, 1, 1, 1));
+        }
+    }
+
+    @Test
+    public void replaceValues() {
+        for (Palette palette : testPalettes()) {
+            palette.setAll((x, y, z) -> x + y + z);
+            var replacements = new Int2IntOpenHashMap();
+            replacements.put(0, 1);
+            replacements.put(1, 0);
+            replacements.put(2, 100);
+            palette.replaceValues(replacements);
+            palette.getAll((x, y, z, value) -> {
+                final int old = x + y + z;
+                assertEquals(old == 0 ? 1 : old == 1 ? 0 : old == 2 ? 100 : old, value);
+            });
+            assertEquals(palette.maxSize() - 3, palette.count());
+
+            palette.fill(5);
+            palette.replaceValues(replacements);
+            assertEquals(5, palette.get(0, 0, 0));
+            replacements.put(5, 6);
+            palette.replaceValues(replacements);
+            assertEquals(6, palette.get(0, 0, 0));
+        }
+    }
+
+    @Test
+    public void countValue() {
+        for (Palette palette : testPalettes()) {
+            final int dimension = palette.dimension();
+            assertEquals(palette.maxSize(), palette.count(0));
+            assertEquals(0, palette.count(1));
+            palette.setAll((x, y, z) -> x);
+            assertEquals(palette.maxSize() / dimension, palette.count(1));
+            assertEquals(palette.maxSize() / dimension, palette.count(0));
+            assertEquals(0, palette.count(dimension));
+            palette.fill(2);
+            assertEquals(palette.maxSize(), palette.count(2));
+        }
+    }
+
+    @Test
+    public void defaultBulkOperations() {
+        for (Palette expected : testPalettes()) {
+            // Only forwards the abstract methods, bulk operations use the default implementations
+            Palette palette = new ForwardingPalette(expected.clone());
+            final int dimension = palette.dimension();
+            final int size = palette.maxSize();
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) values[i] = i % 5;
+            palette.copyFrom(values);
+            expected.copyFrom(values);
+            assertPaletteEquals(expected, palette);
+            assertThrows(IllegalArgumentException.class, () -> palette.copyFrom(new int[size - 1]));
+
+            short[] shorts = new short[size];
+            for (int i = 0; i < size; i++) shorts[i] = (short) (i & 3);
+            palette.copyFrom(shorts);
+            expected.copyFrom(shorts);
+            assertPaletteEquals(expected, palette);
+
+            palette.fill(1, 0, 0, dimension / 2, dimension, dimension / 2, 7);
+            expected.fill(1, 0, 0, dimension / 2, dimension, dimension / 2, 7);
+            assertPaletteEquals(expected, palette);
+            assertThrows(IllegalArgumentException.class, () -> palette.fill(0, 0, 0, dimension + 1, 1, 1, 1));
+
+            var replacements = new Int2IntOpenHashMap();
+            replacements.put(0, 3);
+            replacements.put(7, 0);
+            palette.replaceValues(replacements);
+            expected.replaceValues(replacements);
+            assertPaletteEquals(expected, palette);
+
+            for (int value = 0; value < 8; value++) assertEquals(expected.count(value), palette.count(value));
+        }
+    }
+
+    private static void assertPaletteEquals(Palette expected, Palette palette) {
+        final int size = expected.maxSize();
+        int[] expectedValues = new int[size];
+        int[] values = new int[size];
+        expected.copyTo(expectedValues);
+        palette.copyTo(values);
+        assertArrayEquals(expectedValues, values);
+        short[] shorts = new short[size];
+        palette.copyTo(shorts);
+        for (int i = 0; i < size; i++) assertEquals(expectedValues[i], shorts[i]);
+    }
+
+    private record ForwardingPalette(Palette palette) implements Palette {
+        @Override
+        public int get(int x, int y, int z) {
+            return palette.get(x, y, z);
+        }
+
+        @Override
+        public void getAll(@NotNull EntryConsumer consumer) {
+            palette.getAll(consumer);
+        }
+
+        @Override
+        public void getAllPresent(@NotNull EntryConsumer consumer) {
+            palette.getAllPresent(consumer);
+        }
+
+        @Override
+        public void set(int x, int y, int z, int value) {
+            palette.set(x, y, z, value);
+        }
+
+        @Override
+        public void fill(int value) {
+            palette.fill(value);
+        }
+
+        @Override
+        public void setAll(@NotNull EntrySupplier supplier) {
+            palette.setAll(supplier);
+        }
+
+        @Override
+        public void replace(int x, int y, int z, @NotNull IntUnaryOperator operator) {
+            palette.replace(x, y, z, operator);
+        }
+
+        @Override
+        public void replaceAll(@NotNull EntryFunction function) {
+            palette.replaceAll(function);
+        }
+
+        @Override
+        public int count() {
+            return palette.count();
+        }
+
+        @Override
+        public int bitsPerEntry() {
+            return palette.bitsPerEntry();
+        }
+
+        @Override
+        public int maxBitsPerEntry() {
+            return palette.maxBitsPerEntry();
+        }
+
+        @Override
+        public int dimension() {
+            return palette.dimension();
+        }
+
+        @Override
+        public @NotNull Palette clone() {
+            return new ForwardingPalette(palette.clone());
+        }
+
+        @Override
+        public void write(@NotNull NetworkBuffer writer) {
+            palette.write(writer);
+        }
+    }
+
     private static List<Palette> testPalettes() {
         return List.of(
                 Palette.newPalette(2, 5, 3),
@@ -222,4 +222,41 @@ public class InventoryIntegrationTest {
         });
     }
 
+    @Test
+    public void deltaSyncTest(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Inventory inventory = new Inventory(InventoryType.CHEST_6_ROW, Component.empty());
+        inventory.setDeltaSync(true);
+        player.openInventory(inventory);
+        assertEquals(inventory, player.getOpenInventory());
+
+        // Changes are batched at the end of the tick
+        var slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        var windowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        inventory.setItemStack(3, MAGIC_STACK);
+        inventory.setItemStack(4, MAGIC_STACK);
+        inventory.setItemStack(5, MAGIC_STACK);
+        inventory.setItemStack(5, ItemStack.AIR); // Reverted before being sent
+        slotTracker.assertEmpty();
+        env.tick();
+        slotTracker.assertCount(2);
+        windowTracker.assertEmpty();
+
+        // Nothing changed
+        slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        inventory.update();
+        env.tick();
+        slotTracker.assertEmpty();
+
+        // Too many changes fall back to a full refresh
+        slotTracker = connection.trackIncoming(SetSlotPacket.class);
+        windowTracker = connection.trackIncoming(WindowItemsPacket.class);
+        for (int i = 0; i < inventory.getSize(); i++) inventory.setItemStack(i, MAGIC_STACK);
+        env.tick();
+        slotTracker.assertEmpty();
+        windowTracker.assertSingle(packet -> assertEquals(MAGIC_STACK, packet.items().get(0)));
+    }
 }
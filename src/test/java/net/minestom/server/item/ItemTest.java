@@ -7,10 +7,12 @@ import net.minestom.server.component.DataComponent;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.item.component.EnchantmentList;
 import net.minestom.server.item.enchant.Enchantment;
+import net.minestom.server.network.NetworkBuffer;
 import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -137,6 +139,55 @@ public class ItemTest {
         assertEquals(EntityType.CAMEL, item2.material().registry().spawnEntityType());
     }
 
+    @Test
+    public void intern() {
+        var item1 = createItem().intern();
+        var item2 = createItem().intern();
+        assertSame(item1, item2);
+        assertSame(item1, item1.intern());
+        assertNotSame(item1, createItem().withAmount(2).intern());
+
+        // Same components, different amount
+        var components1 = ((ItemStackImpl) item1).components();
+        var components2 = ((ItemStackImpl) createItem().withAmount(2).intern()).components();
+        assertSame(components1, components2);
+    }
+
+    @Test
+    public void internNbtRoundTrip() {
+        var item = createItem().intern();
+        var loaded = ItemStack.fromItemNBT(item.toItemNBT());
+        assertEquals(item, loaded);
+        assertSame(item, loaded.intern());
+        assertSame(((ItemStackImpl) item).components(), ((ItemStackImpl) loaded.intern()).components());
+    }
+
+    @Test
+    public void networkEncodingCache() {
+        var item = createItem();
+        var first = NetworkBuffer.makeArray(buffer -> buffer.write(ItemStack.NETWORK_TYPE, item));
+        var second = NetworkBuffer.makeArray(buffer -> buffer.write(ItemStack.NETWORK_TYPE, item));
+        assertArrayEquals(first, second);
+        assertEquals(item, new NetworkBuffer(ByteBuffer.wrap(second)).read(ItemStack.NETWORK_TYPE));
+
+        var other = item.withAmount(3);
+        var otherBytes = NetworkBuffer.makeArray(buffer -> buffer.write(ItemStack.NETWORK_TYPE, other));
+        assertEquals(other, new NetworkBuffer(ByteBuffer.wrap(otherBytes)).read(ItemStack.NETWORK_TYPE));
+
+        // Served from the cache on the second write
+        var cache = new ItemNetworkCache(1 << 20);
+        var encoded = cache.get((ItemStackImpl) item);
+        assertNotNull(encoded);
+        assertSame(encoded, cache.get((ItemStackImpl) item));
+        assertArrayEquals(first, encoded);
+        // Identity based, equal items are encoded again unless interned
+        assertNotSame(encoded, cache.get((ItemStackImpl) createItem()));
+        var interned = (ItemStackImpl) createItem().intern();
+        assertSame(cache.get(interned), cache.get((ItemStackImpl) createItem().intern()));
+        // Items without component are written directly
+        assertNull(cache.get((ItemStackImpl) ItemStack.of(Material.STONE)));
+    }
+
     static ItemStack createItem() {
         return ItemStack.builder(Material.STONE)
                 .set(ItemComponent.CUSTOM_NAME, Component.text("Display name!", NamedTextColor.GREEN))
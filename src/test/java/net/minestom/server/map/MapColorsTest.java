@@ -0,0 +1,67 @@
+package net.minestom.server.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MapColorsTest {
+
+    @Test
+    public void exactColors() {
+        for (MapColors base : MapColors.values()) {
+            if (base == MapColors.NONE) continue;
+            for (MapColors.Multiplier multiplier : MapColors.Multiplier.values()) {
+                final int rgb = MapColors.PreciseMapColor.toRGB(base, multiplier);
+                assertEquals(rgb, MapColors.PreciseMapColor.toRGB(MapColors.closestColor(rgb).getBaseColor(),
+                        MapColors.closestColor(rgb).getMultiplier()));
+            }
+        }
+    }
+
+    @Test
+    public void closestColor() {
+        Random random = new Random(0);
+        for (int i = 0; i < 100_000; i++) {
+            final int argb = random.nextInt();
+            assertEquals(bruteForce(argb & 0xFFFFFF), MapColors.closestColorIndex(argb), "Color " + Integer.toHexString(argb));
+            assertEquals(MapColors.closestColorIndex(argb), MapColors.closestColor(argb).getIndex());
+        }
+    }
+
+    @Test
+    public void bulkConversion() {
+        Random random = new Random(0);
+        int[] pixels = new int[Framebuffer.WIDTH * Framebuffer.HEIGHT];
+        for (int i = 0; i < pixels.length; i++) {
+            // Runs of identical colors
+            pixels[i] = i % 3 == 0 ? random.nextInt() : pixels[i - 1];
+        }
+        byte[] colors = new byte[pixels.length + 2];
+        MapColors.toMapColors(pixels, 0, colors, 2, pixels.length);
+        for (int i = 0; i < pixels.length; i++) {
+            assertEquals(MapColors.closestColorIndex(pixels[i]), colors[i + 2]);
+        }
+    }
+
+    private static byte bruteForce(int rgb) {
+        byte closest = 0;
+        int closestDistance = Integer.MAX_VALUE;
+        for (MapColors base : MapColors.values()) {
+            if (base == MapColors.NONE) continue;
+            for (MapColors.Multiplier multiplier : MapColors.Multiplier.values()) {
+                final int key = MapColors.PreciseMapColor.toRGB(base, multiplier);
+                final int dr = ((key >> 16) & 0xFF) - ((rgb >> 16) & 0xFF);
+                final int dg = ((key >> 8) & 0xFF) - ((rgb >> 8) & 0xFF);
+                final int db = (key & 0xFF) - (rgb & 0xFF);
+                final int distance = dr * dr + dg * dg + db * db;
+                if (distance < closestDistance) {
+                    closest = multiplier.apply(base);
+                    closestDistance = distance;
+                }
+            }
+        }
+        return closest;
+    }
+}
@@ -0,0 +1,75 @@
+package net.minestom.server.map;
+
+import net.minestom.server.map.framebuffers.DirectFramebuffer;
+import net.minestom.server.map.framebuffers.LargeGraphics2DFramebuffer;
+import net.minestom.server.network.packet.server.play.MapDataPacket;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapRendererTest {
+
+    @Test
+    public void dirtyRectangle() {
+        var renderer = new MapRenderer();
+        var framebuffer = new DirectFramebuffer();
+        framebuffer.set(1, 1, (byte) 4);
+
+        var full = renderer.render(1, framebuffer);
+        assertNotNull(full);
+        assertContent(full, 0, 0, 128, 128);
+        assertEquals(4, full.colorContent().data()[Framebuffer.index(1, 1)]);
+        assertNull(renderer.render(1, framebuffer));
+
+        framebuffer.set(5, 7, (byte) 8);
+        framebuffer.set(10, 9, (byte) 12);
+        var partial = renderer.render(1, framebuffer);
+        assertNotNull(partial);
+        assertContent(partial, 5, 7, 6, 3);
+        final byte[] data = partial.colorContent().data();
+        assertEquals(8, data[0]);
+        assertEquals(12, data[data.length - 1]);
+        assertEquals(0, data[1]);
+        assertNull(renderer.render(1, framebuffer));
+
+        // Other maps are tracked separately
+        assertContent(renderer.render(2, framebuffer), 0, 0, 128, 128);
+
+        renderer.invalidate(1);
+        assertContent(renderer.render(1, framebuffer), 0, 0, 128, 128);
+    }
+
+    @Test
+    public void largeFramebuffer() {
+        var renderer = new MapRenderer();
+        var framebuffer = new LargeGraphics2DFramebuffer(200, 130);
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(framebuffer, new int[]{1, 2}));
+
+        List<MapDataPacket> packets = renderer.render(framebuffer, new int[]{1, 2, 3, 4});
+        assertEquals(4, packets.size());
+        assertContent(packets.get(0), 0, 0, 128, 128);
+        assertContent(packets.get(1), 0, 0, 72, 128);
+        assertContent(packets.get(2), 0, 0, 128, 2);
+        assertContent(packets.get(3), 0, 0, 72, 2);
+        assertTrue(renderer.render(framebuffer, new int[]{1, 2, 3, 4}).isEmpty());
+
+        framebuffer.set(150, 20, 0xFF0000);
+        packets = renderer.render(framebuffer, new int[]{1, 2, 3, 4});
+        assertEquals(1, packets.size());
+        assertEquals(2, packets.get(0).mapId());
+        assertContent(packets.get(0), 22, 20, 1, 1);
+        assertEquals(MapColors.closestColorIndex(0xFF0000), packets.get(0).colorContent().data()[0]);
+    }
+
+    private static void assertContent(MapDataPacket packet, int x, int z, int columns, int rows) {
+        assertNotNull(packet);
+        final MapDataPacket.ColorContent content = packet.colorContent();
+        assertEquals(x, content.x() & 0xFF);
+        assertEquals(z, content.z() & 0xFF);
+        assertEquals(columns, content.columns() & 0xFF);
+        assertEquals(rows, content.rows() & 0xFF);
+        assertEquals(columns * rows, content.data().length);
+    }
+}
@@ -0,0 +1,106 @@
+package net.minestom.server.network;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Player;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.packet.client.common.ClientKeepAlivePacket;
+import net.minestom.server.network.packet.client.play.*;
+import net.minestom.server.network.packet.server.SendablePacket;
+import net.minestom.server.network.player.PlayerConnection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DirectPacketReadTest {
+
+    @Test
+    public void movement() {
+        var connection = new DummyConnection();
+        final Pos current = new Pos(1, 2, 3, 4, 5);
+
+        var payload = payload(new ClientPlayerPositionPacket(new Vec(10, 20, 30), true));
+        var position = (ClientMovementPacket) ClientMovementPacket.readPosition(connection, payload);
+        assertNotNull(position);
+        assertFalse(payload.hasRemaining());
+        assertEquals(ClientMovementPacket.POSITION, position.type());
+        assertTrue(position.onGround());
+        assertEquals(new Pos(10, 20, 30, 4, 5), position.apply(current));
+
+        payload = payload(new ClientPlayerPositionAndRotationPacket(new Pos(10, 20, 30, 40, 50), false));
+        var positionRotation = (ClientMovementPacket) ClientMovementPacket.readPositionAndRotation(connection, payload);
+        assertNotNull(positionRotation);
+        assertFalse(payload.hasRemaining());
+        assertFalse(positionRotation.onGround());
+        assertEquals(new Pos(10, 20, 30, 40, 50), positionRotation.apply(current));
+
+        payload = payload(new ClientPlayerRotationPacket(40, 50, true));
+        var rotation = (ClientMovementPacket) ClientMovementPacket.readRotation(connection, payload);
+        assertNotNull(rotation);
+        assertFalse(payload.hasRemaining());
+        assertEquals(new Pos(1, 2, 3, 40, 50), rotation.apply(current));
+
+        // Same encoding as the record
+        assertArrayEquals(NetworkBuffer.makeArray(new ClientPlayerRotationPacket(40, 50, true)::write),
+                NetworkBuffer.makeArray(rotation::write));
+    }
+
+    @Test
+    public void movementPool() {
+        var connection = new DummyConnection();
+        List<ClientMovementPacket> packets = new ArrayList<>();
+        ClientMovementPacket packet;
+        while ((packet = (ClientMovementPacket) ClientMovementPacket.readRotation(connection,
+                payload(new ClientPlayerRotationPacket(0, 0, false)))) != null) {
+            assertFalse(packets.contains(packet));
+            packets.add(packet);
+        }
+        assertFalse(packets.isEmpty());
+
+        // Exhausted pool must leave the payload untouched
+        var payload = payload(new ClientPlayerRotationPacket(0, 0, false));
+        assertNull(ClientMovementPacket.readRotation(connection, payload));
+        assertEquals(0, payload.position());
+
+        packets.get(0).recycle();
+        assertSame(packets.get(0), ClientMovementPacket.readRotation(connection, payload));
+    }
+
+    @Test
+    public void cached() {
+        var connection = new DummyConnection();
+        assertSame(ClientPlayerPacket.read(connection, payload(new ClientPlayerPacket(true))),
+                ClientPlayerPacket.read(connection, payload(new ClientPlayerPacket(true))));
+        assertEquals(new ClientPlayerPacket(false), ClientPlayerPacket.read(connection, payload(new ClientPlayerPacket(false))));
+
+        for (Player.Hand hand : Player.Hand.values()) {
+            var payload = payload(new ClientAnimationPacket(hand));
+            assertEquals(new ClientAnimationPacket(hand), ClientAnimationPacket.read(connection, payload));
+            assertFalse(payload.hasRemaining());
+        }
+
+        assertEquals(new ClientKeepAlivePacket(42), ClientKeepAlivePacket.read(connection, payload(new ClientKeepAlivePacket(42))));
+    }
+
+    private static ByteBuffer payload(ClientPacket packet) {
+        return ByteBuffer.wrap(NetworkBuffer.makeArray(packet::write));
+    }
+
+    private static final class DummyConnection extends PlayerConnection {
+        @Override
+        public void sendPacket(@NotNull SendablePacket packet) {
+        }
+
+        @Override
+        public @NotNull SocketAddress getRemoteAddress() {
+            return new InetSocketAddress("localhost", 25565);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package net.minestom.server.network.player;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.EntityHeadLookPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionPacket;
+import net.minestom.server.network.packet.server.play.EntityRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityTeleportPacket;
+import net.minestom.server.network.packet.server.play.EntityVelocityPacket;
+import net.minestom.server.network.packet.server.play.TimeUpdatePacket;
+import net.minestom.server.network.player.PlayerSocketConnection.BackPressurePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SendQueueTest {
+    private static final List<ServerPacket> DROPPABLE = List.of(
+            new EntityRotationPacket(1, 90, 0, true),
+            new EntityHeadLookPacket(1, 90),
+            new EntityVelocityPacket(1, (short) 1, (short) 0, (short) 0),
+            new TimeUpdatePacket(0, 0));
+    private static final List<ServerPacket> KEPT = List.of(
+            new EntityPositionPacket(1, (short) 128, (short) 0, (short) 0, true),
+            new EntityPositionAndRotationPacket(1, (short) 128, (short) 0, (short) 0, 90, 0, true),
+            new EntityTeleportPacket(1, Pos.ZERO, true));
+
+    @Test
+    public void congestionTransitions() {
+        var queue = new SendQueue(100, 50, 400, BackPressurePolicy.DROP);
+        assertFalse(queue.update(100));
+        assertFalse(queue.congested());
+
+        assertFalse(queue.update(1));
+        assertTrue(queue.congested());
+        assertEquals(1, queue.congestionCount());
+
+        // Stays congested until the low watermark
+        assertFalse(queue.update(-40));
+        assertTrue(queue.congested());
+        assertFalse(queue.update(-11));
+        assertFalse(queue.congested());
+        assertEquals(50, queue.pendingBytes());
+
+        assertFalse(queue.update(60));
+        assertTrue(queue.congested());
+        assertEquals(2, queue.congestionCount());
+    }
+
+    @Test
+    public void disabled() {
+        var queue = new SendQueue(0, 0, 0, BackPressurePolicy.DISCONNECT);
+        assertFalse(queue.update(Integer.MAX_VALUE));
+        assertFalse(queue.congested());
+        assertFalse(queue.drop(DROPPABLE.get(0)));
+    }
+
+    @Test
+    public void dropPolicy() {
+        var queue = new SendQueue(100, 50, 400, BackPressurePolicy.DROP);
+        for (ServerPacket packet : DROPPABLE) assertFalse(queue.drop(packet));
+
+        queue.update(101);
+        assertTrue(queue.dropping());
+        assertFalse(queue.chunkStreamingPaused());
+        for (ServerPacket packet : DROPPABLE) assertTrue(queue.drop(packet), packet.toString());
+        for (ServerPacket packet : KEPT) assertFalse(queue.drop(packet), packet.toString());
+        assertEquals(DROPPABLE.size(), queue.droppedPackets());
+
+        queue.update(-51);
+        for (ServerPacket packet : DROPPABLE) assertFalse(queue.drop(packet));
+        assertEquals(DROPPABLE.size(), queue.droppedPackets());
+    }
+
+    @Test
+    public void pauseChunksPolicy() {
+        var queue = new SendQueue(100, 50, 400, BackPressurePolicy.PAUSE_CHUNKS);
+        assertFalse(queue.chunkStreamingPaused());
+        assertFalse(queue.update(101));
+        assertTrue(queue.chunkStreamingPaused());
+        for (ServerPacket packet : DROPPABLE) assertFalse(queue.drop(packet));
+        queue.update(-51);
+        assertFalse(queue.chunkStreamingPaused());
+    }
+
+    @Test
+    public void disconnectPolicy() {
+        var queue = new SendQueue(100, 50, 400, BackPressurePolicy.DISCONNECT);
+        assertFalse(queue.update(100));
+        assertTrue(queue.update(1));
+        for (ServerPacket packet : DROPPABLE) assertFalse(queue.drop(packet));
+    }
+
+    @Test
+    public void limit() {
+        for (BackPressurePolicy policy : List.of(BackPressurePolicy.DROP, BackPressurePolicy.PAUSE_CHUNKS)) {
+            var queue = new SendQueue(100, 50, 400, policy);
+            assertFalse(queue.update(101));
+            assertFalse(queue.update(299));
+            assertTrue(queue.update(1), policy.name());
+            // Sending data does not trigger the limit again
+            assertFalse(queue.update(-1));
+        }
+        // Going over the limit at once
+        assertTrue(new SendQueue(100, 50, 400, BackPressurePolicy.DROP).update(401));
+    }
+
+    @Test
+    public void parsePolicy() {
+        assertEquals(BackPressurePolicy.DROP, PlayerSocketConnection.parsePolicy("drop"));
+        assertEquals(BackPressurePolicy.PAUSE_CHUNKS, PlayerSocketConnection.parsePolicy("PAUSE_CHUNKS"));
+        // Unknown values fall back to the default policy
+        assertEquals(BackPressurePolicy.DISCONNECT, PlayerSocketConnection.parsePolicy("dorp"));
+    }
+}
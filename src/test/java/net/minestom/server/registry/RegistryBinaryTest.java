@@ -0,0 +1,31 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RegistryBinaryTest {
+
+    @ParameterizedTest
+    @EnumSource(value = Registry.Resource.class, names = {"BLOCKS", "ITEMS", "ENTITIES", "BLOCK_TAGS", "BIOMES"})
+    public void roundTrip(Registry.Resource resource) {
+        final Map<String, Map<String, Object>> json = Registry.loadJson(resource);
+        final Map<String, Map<String, Object>> binary = RegistryBinary.decode(RegistryBinary.encode(json));
+        assertEquals(json.size(), binary.size());
+        assertEquals(json.keySet(), binary.keySet());
+        assertEquals(json, binary);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = Registry.Resource.class, names = {"BLOCKS", "ITEMS"})
+    public void lazyAccess(Registry.Resource resource) {
+        final Map<String, Map<String, Object>> json = Registry.loadJson(resource);
+        final Map<String, Map<String, Object>> binary = RegistryBinary.decode(RegistryBinary.encode(json));
+        final String key = json.keySet().iterator().next();
+        assertEquals(json.get(key), binary.get(key));
+        assertEquals(binary.get(key), binary.get(key));
+    }
+}
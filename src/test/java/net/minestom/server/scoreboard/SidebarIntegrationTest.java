@@ -0,0 +1,103 @@
+package net.minestom.server.scoreboard;
+
+import net.kyori.adventure.text.Component;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.network.packet.server.play.TeamsPacket;
+import net.minestom.server.network.packet.server.play.UpdateScorePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class SidebarIntegrationTest {
+
+    @Test
+    public void batchedLines(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0)).join();
+
+        Sidebar sidebar = new Sidebar(Component.text("title"));
+        sidebar.setBatched(true);
+        sidebar.createLine(new Sidebar.ScoreboardLine("line", Component.text("a"), 1));
+        sidebar.addViewer(player);
+
+        var teamTracker = connection.trackIncoming(TeamsPacket.class);
+        var scoreTracker = connection.trackIncoming(UpdateScorePacket.class);
+        sidebar.updateLineContent("line", Component.text("b"));
+        sidebar.updateLineContent("line", Component.text("c"));
+        sidebar.updateLineScore("line", 2);
+        sidebar.updateLineScore("line", 1); // Reverted
+        teamTracker.assertEmpty();
+        env.tick();
+        teamTracker.assertSingle(packet -> {
+            var action = assertInstanceOf(TeamsPacket.UpdateTeamAction.class, packet.action());
+            assertEquals(Component.text("c"), action.teamPrefix());
+        });
+        scoreTracker.assertEmpty();
+
+        // Changes which end up identical to the sent state are skipped
+        teamTracker = connection.trackIncoming(TeamsPacket.class);
+        sidebar.updateLineContent("line", Component.text("d"));
+        sidebar.updateLineContent("line", Component.text("c"));
+        env.tick();
+        teamTracker.assertEmpty();
+
+        // Unbatched updates are sent immediately
+        sidebar.setBatched(false);
+        scoreTracker = connection.trackIncoming(UpdateScorePacket.class);
+        sidebar.updateLineScore("line", 5);
+        scoreTracker.assertSingle(packet -> assertEquals(5, packet.score()));
+    }
+
+    @Test
+    public void templatedLines(Env env) {
+        var instance = env.createFlatInstance();
+        var connection1 = env.createConnection();
+        var connection2 = env.createConnection();
+        var player1 = connection1.connect(instance, new Pos(0, 42, 0)).join();
+        var player2 = connection2.connect(instance, new Pos(0, 42, 0)).join();
+
+        AtomicInteger coins = new AtomicInteger();
+        TemplatedSidebar sidebar = new TemplatedSidebar(Component.text("title"));
+        sidebar.createLine(new Sidebar.ScoreboardLine("static", Component.text("static"), 2));
+        sidebar.createPlayerLine("name", 1, player -> Component.text(player.getUsername() + coins.get()));
+
+        var tracker1 = connection1.trackIncoming(TeamsPacket.class);
+        var tracker2 = connection2.trackIncoming(TeamsPacket.class);
+        sidebar.addViewer(player1);
+        sidebar.addViewer(player2);
+        assertEquals(Component.text(player1.getUsername() + 0), templatedPrefix(tracker1.collect()));
+        assertEquals(Component.text(player2.getUsername() + 0), templatedPrefix(tracker2.collect()));
+
+        // Unchanged content is not sent
+        tracker1 = connection1.trackIncoming(TeamsPacket.class);
+        sidebar.refreshPlayerLine("name");
+        tracker1.assertEmpty();
+
+        coins.set(5);
+        tracker1 = connection1.trackIncoming(TeamsPacket.class);
+        tracker2 = connection2.trackIncoming(TeamsPacket.class);
+        sidebar.refreshPlayerLine("name", player1);
+        tracker1.assertSingle(packet -> assertEquals(Component.text(player1.getUsername() + 5),
+                ((TeamsPacket.UpdateTeamAction) packet.action()).teamPrefix()));
+        tracker2.assertEmpty();
+
+        assertThrows(IllegalArgumentException.class, () -> sidebar.updateLineContent("name", Component.empty()));
+    }
+
+    private static Component templatedPrefix(List<TeamsPacket> packets) {
+        Component prefix = null;
+        for (TeamsPacket packet : packets) {
+            var action = assertInstanceOf(TeamsPacket.CreateTeamAction.class, packet.action());
+            if (!action.teamPrefix().equals(Component.text("static"))) prefix = action.teamPrefix();
+        }
+        assertEquals(2, packets.size());
+        return prefix;
+    }
+}
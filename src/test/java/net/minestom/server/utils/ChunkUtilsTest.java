@@ -2,6 +2,7 @@ package net.minestom.server.utils;
 
 import net.minestom.server.utils.chunk.ChunkUtils;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -11,6 +12,17 @@ import java.util.stream.Stream;
 
 public class ChunkUtilsTest {
 
+    @Test
+    public void blockPositionIndex() {
+        final int[][] positions = {{0, 0, 0}, {-1, -64, -1}, {33554431, 2047, -33554432}, {-12345, 319, 678}};
+        for (int[] position : positions) {
+            final long index = ChunkUtils.getBlockPositionIndex(position[0], position[1], position[2]);
+            Assertions.assertEquals(position[0], ChunkUtils.getBlockPositionX(index));
+            Assertions.assertEquals(position[1], ChunkUtils.getBlockPositionY(index));
+            Assertions.assertEquals(position[2], ChunkUtils.getBlockPositionZ(index));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("testForDifferingChunksInRangeParams")
     public void testForDifferingChunksInRange(int nx, int nz, int ox, int oz, int r) {
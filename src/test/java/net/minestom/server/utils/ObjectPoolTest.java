@@ -1,8 +1,11 @@
 package net.minestom.server.utils;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.utils.binary.BinaryBuffer;
+import net.minestom.server.utils.binary.SharedBuffer;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -44,4 +47,40 @@ public class ObjectPoolTest {
         }
         assertEquals(1, pool.count());
     }
+
+    @Test
+    public void sharedBuffer() {
+        var pool = ObjectPool.SHARED_POOL;
+        pool.clear();
+        var source = BinaryBuffer.ofSize(16);
+        source.writeBytes(new byte[]{1, 2, 3});
+
+        var shared = SharedBuffer.copyOf(source);
+        assertEquals(3, shared.size());
+        assertEquals(2, shared.buffer().get(1));
+
+        shared.retain();
+        shared.retain();
+        shared.release(); // Owner
+        shared.release();
+        assertEquals(0, pool.count());
+        shared.release(); // Last reader
+        assertEquals(1, pool.count());
+        assertThrows(IllegalStateException.class, shared::retain);
+    }
+
+    @Test
+    public void largeSharedBuffer() {
+        var pool = ObjectPool.SHARED_POOL;
+        pool.clear();
+        var source = ByteBuffer.allocate(ServerFlag.POOLED_BUFFER_SIZE + 2);
+        source.put(ServerFlag.POOLED_BUFFER_SIZE, (byte) 5);
+
+        var shared = SharedBuffer.copyOf(source, 1, ServerFlag.POOLED_BUFFER_SIZE + 1);
+        assertEquals(ServerFlag.POOLED_BUFFER_SIZE + 1, shared.size());
+        assertEquals(5, shared.buffer().get(ServerFlag.POOLED_BUFFER_SIZE - 1));
+        shared.release();
+        // Too large to be pooled
+        assertEquals(0, pool.count());
+    }
 }
@@ -0,0 +1,33 @@
+package net.minestom.server.utils.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+
+import static net.minestom.testing.TestUtils.waitUntilCleared;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeakInternerTest {
+    @Test
+    public void intern() {
+        WeakInterner<List<String>> interner = new WeakInterner<>();
+        var first = List.of("a", "b");
+        var second = List.of("a", "b");
+        assertNotSame(first, second);
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+        assertSame(first, interner.intern(List.of("a", "b")));
+        assertNotSame(first, interner.intern(List.of("b", "a")));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void weak() {
+        WeakInterner<List<String>> interner = new WeakInterner<>();
+        var ref = new WeakReference<>(interner.intern(List.of(new String("value"))));
+        waitUntilCleared(ref);
+        assertEquals(0, interner.size());
+        assertNotNull(interner.intern(List.of("value")));
+    }
+}